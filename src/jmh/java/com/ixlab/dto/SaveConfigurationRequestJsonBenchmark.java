@@ -0,0 +1,52 @@
+package com.ixlab.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SaveConfigurationRequestJsonBenchmark {
+
+    @Param({"1024", "102400", "5242880"})
+    public int payloadSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SaveConfigurationRequest request;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() throws IOException {
+        StringBuilder json = new StringBuilder(payloadSize + 64).append("{\"properties\":[");
+        int i = 0;
+        while (json.length() < payloadSize) {
+            if (i > 0) json.append(',');
+            json.append("{\"key\":\"app.property").append(i).append("\",\"default\":\"value ").append(i).append("\"}");
+            i++;
+        }
+        json.append("]}");
+
+        request = new SaveConfigurationRequest();
+        request.setName("Benchmark");
+        request.setSubcategory("v1.0.0");
+        request.setCategoryId(1L);
+        request.setJson(json.toString());
+        serialized = objectMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public SaveConfigurationRequest deserialize() throws IOException {
+        return objectMapper.readValue(serialized, SaveConfigurationRequest.class);
+    }
+}
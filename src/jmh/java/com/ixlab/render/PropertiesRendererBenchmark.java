@@ -0,0 +1,52 @@
+package com.ixlab.render;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertiesRendererBenchmark {
+
+    @Param({"50", "2000"})
+    public int properties;
+
+    private PropertiesRenderer renderer;
+    private PropertiesTemplateCompiler compiler;
+    private byte[] content;
+    private final LocalDateTime version = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        renderer = new PropertiesRenderer(objectMapper, 16);
+        compiler = new PropertiesTemplateCompiler(objectMapper);
+
+        StringBuilder json = new StringBuilder("{\"globalProperties\":[{\"category\":\"general\",\"properties\":[");
+        for (int i = 0; i < properties; i++) {
+            if (i > 0) json.append(',');
+            json.append("{\"key\":\"app.property").append(i)
+                .append("\",\"default\":\"value ").append(i)
+                .append("\",\"description\":\"Property ").append(i).append("\"}");
+        }
+        json.append("]}],\"domainProperties\":[]}");
+        content = json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public PropertiesTemplate compile() {
+        return compiler.compile(content);
+    }
+
+    @Benchmark
+    public String renderCached() {
+        return renderer.render(1L, version, () -> content);
+    }
+}
@@ -0,0 +1,59 @@
+package com.ixlab.security;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of deciding whether a path is anonymous: the compiled matcher against
+ * the chain of equals/startsWith/endsWith checks the security rule used before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnonymousPathMatcherBenchmark {
+
+    @Param({"/api/configs/42/properties", "/static/config.js", "/panel", "/api/auth/login"})
+    public String path;
+
+    private AnonymousPathMatcher matcher;
+
+    @Setup
+    public void setUp() {
+        matcher = AnonymousPathMatcher.compile(
+            Arrays.asList("", "/", "/login", "/register", "/panel"),
+            Arrays.asList("/api/auth/", "/static/", "/assets/", "/css/", "/js/", "/images/",
+                "/swagger", "/rapidoc", "/redoc", "/openapi"),
+            Arrays.asList(".css", ".js", ".png", ".jpg", ".ico", ".svg", ".woff", ".woff2", ".ttf"));
+    }
+
+    @Benchmark
+    public boolean compiled() {
+        return matcher.matches(path);
+    }
+
+    @Benchmark
+    public boolean chained() {
+        return isAnonymousChained(path);
+    }
+
+    private static boolean isAnonymousChained(String path) {
+        if (path.equals("/") || path.equals("")) return true;
+        if (path.equals("/login") || path.equals("/register") || path.equals("/panel")) return true;
+        if (path.startsWith("/static/")) return true;
+        if (path.startsWith("/api/auth/")) return true;
+        if (path.startsWith("/css/") || path.startsWith("/js/") ||
+            path.startsWith("/images/") || path.startsWith("/assets/") ||
+            path.endsWith(".css") || path.endsWith(".js") ||
+            path.endsWith(".png") || path.endsWith(".jpg") ||
+            path.endsWith(".ico") || path.endsWith(".svg") ||
+            path.endsWith(".woff") || path.endsWith(".woff2") ||
+            path.endsWith(".ttf")) return true;
+        return path.startsWith("/swagger") || path.startsWith("/rapidoc") ||
+            path.startsWith("/redoc") || path.startsWith("/openapi");
+    }
+}
@@ -0,0 +1,73 @@
+package com.ixlab.service;
+
+import com.ixlab.domain.Category;
+import com.ixlab.domain.ConfigurationFile;
+import com.ixlab.dto.ConfigurationDto;
+import com.ixlab.dto.ConfigurationSummary;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigurationDtoBenchmark {
+
+    @Param({"1024", "102400", "5242880"})
+    public int contentSize;
+
+    private ConfigurationService service;
+    private ConfigurationFile config;
+    private ConfigurationSummary summary;
+    private byte[] content;
+
+    @Setup
+    public void setUp() {
+        // Only the mapping methods are exercised, they do not touch the collaborators
+        service = new ConfigurationService(null, null, null, null, null, null, null, null, null, null);
+
+        Category category = new Category("Benchmark", null);
+        category.setId(1L);
+        config = new ConfigurationFile();
+        config.setId(42L);
+        config.setName("Config");
+        config.setSubcategory("v1.0.0");
+        config.setCategory(category);
+        config.setCreatedAt(LocalDateTime.now());
+        config.setUpdatedAt(LocalDateTime.now());
+
+        summary = new ConfigurationSummary();
+        summary.setId(42L);
+        summary.setName("Config");
+        summary.setSubcategory("v1.0.0");
+        summary.setCategoryId(1L);
+        summary.setCategoryName("Benchmark");
+        summary.setCreatedAt(LocalDateTime.now());
+        summary.setUpdatedAt(LocalDateTime.now());
+
+        char[] chars = new char[contentSize];
+        Arrays.fill(chars, 'x');
+        content = new String(chars).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public ConfigurationDto toConfigurationDto() {
+        return service.toConfigurationDto(config);
+    }
+
+    @Benchmark
+    public ConfigurationDto toConfigurationDtoFromSummary() {
+        return service.toConfigurationDto(summary);
+    }
+
+    @Benchmark
+    public ConfigurationDto toConfigurationDtoWithContent() {
+        return service.toConfigurationDtoWithContent(config, content);
+    }
+}
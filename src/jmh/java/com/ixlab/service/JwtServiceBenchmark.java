@@ -0,0 +1,44 @@
+package com.ixlab.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        token = jwtService.generateToken("benchmark-user");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken("benchmark-user");
+    }
+
+    /**
+     * Per-request cost for a bearer token seen before: hash lookup only.
+     */
+    @Benchmark
+    public String validateToken() {
+        return jwtService.validateAndGetSubject(token);
+    }
+
+    /**
+     * Per-request cost for a new token: HMAC check and claims parsing with the shared parser.
+     */
+    @Benchmark
+    public String validateTokenUncached() {
+        return jwtService.verify(token);
+    }
+}
@@ -0,0 +1,95 @@
+package com.ixlab.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Small thread-safe LRU bounded by the total weight of its values rather than by entry count.
+ * Keeps hit, miss and eviction counters for monitoring.
+ */
+public class WeightedLruCache<K, V> {
+
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    private final LinkedHashMap<K, V> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long weight;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public WeightedLruCache(long maxWeight, ToLongFunction<V> weigher) {
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    public V get(K key) {
+        return get(key, v -> true);
+    }
+
+    /**
+     * Returns the cached value only if it passes {@code isValid}; a stale value counts as a miss.
+     */
+    public V get(K key, Predicate<? super V> isValid) {
+        V value;
+        synchronized (this) {
+            value = entries.get(key);
+        }
+        if (value != null && isValid.test(value)) {
+            hits.incrementAndGet();
+            return value;
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public void put(K key, V value) {
+        long w = weigher.applyAsLong(value);
+        synchronized (this) {
+            V previous = entries.remove(key);
+            if (previous != null) {
+                weight -= weigher.applyAsLong(previous);
+            }
+            if (w > maxWeight) {
+                // Never let a single oversized value flush the whole cache
+                return;
+            }
+            entries.put(key, value);
+            weight += w;
+            Iterator<Map.Entry<K, V>> it = entries.entrySet().iterator();
+            while (weight > maxWeight && it.hasNext()) {
+                Map.Entry<K, V> eldest = it.next();
+                weight -= weigher.applyAsLong(eldest.getValue());
+                it.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (this) {
+            V previous = entries.remove(key);
+            if (previous != null) {
+                weight -= weigher.applyAsLong(previous);
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (this) {
+            entries.clear();
+            weight = 0;
+        }
+    }
+
+    public synchronized int size() { return entries.size(); }
+    public synchronized long weight() { return weight; }
+    public long maxWeight() { return maxWeight; }
+    public long hitCount() { return hits.get(); }
+    public long missCount() { return misses.get(); }
+    public long evictionCount() { return evictions.get(); }
+}
@@ -0,0 +1,16 @@
+package com.ixlab.codec;
+
+/**
+ * Encoding applied to configuration content before it is stored. Each codec has a
+ * one-byte id written as a header in front of the encoded payload.
+ */
+public interface ContentCodec {
+
+    byte id();
+
+    String name();
+
+    byte[] encode(byte[] raw);
+
+    byte[] decode(byte[] data, int offset, int length);
+}
@@ -0,0 +1,72 @@
+package com.ixlab.codec;
+
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Singleton;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Frames stored content as {@code [codec id][payload]} with the configured codec and
+ * decodes any known frame. Content written before codecs existed has no header; its
+ * first byte is never a codec id (JSON starts with whitespace, a bracket, a quote or a
+ * literal), so it is returned as-is.
+ */
+@Singleton
+public class ContentCodecs {
+
+    private final Map<Byte, ContentCodec> byId = new HashMap<>();
+    private final ContentCodec current;
+
+    public ContentCodecs(@Value("${buildbag.storage.codec:deflate}") String codec,
+                         @Value("${buildbag.storage.deflate-level:6}") int deflateLevel) {
+        register(new IdentityCodec());
+        register(new DeflateCodec(deflateLevel));
+        this.current = byId.values().stream()
+            .filter(c -> c.name().equalsIgnoreCase(codec))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown content codec: " + codec));
+    }
+
+    private void register(ContentCodec codec) {
+        byId.put(codec.id(), codec);
+    }
+
+    public ContentCodec current() {
+        return current;
+    }
+
+    public byte[] encode(byte[] raw) {
+        byte[] payload = current.encode(raw);
+        byte[] framed = new byte[payload.length + 1];
+        framed[0] = current.id();
+        System.arraycopy(payload, 0, framed, 1, payload.length);
+        return framed;
+    }
+
+    public byte[] decode(byte[] stored) {
+        if (stored == null || stored.length == 0) {
+            return new byte[0];
+        }
+        ContentCodec codec = byId.get(stored[0]);
+        if (codec == null) {
+            return stored;
+        }
+        return codec.decode(stored, 1, stored.length - 1);
+    }
+
+    /**
+     * True when the stored bytes start with the id of a known codec. Content written before
+     * codecs existed is not framed.
+     */
+    public boolean isFramed(byte[] stored) {
+        return stored != null && stored.length > 0 && byId.containsKey(stored[0]);
+    }
+
+    /**
+     * True when the stored bytes are already framed with the configured codec.
+     */
+    public boolean isCurrent(byte[] stored) {
+        return stored != null && stored.length > 0 && stored[0] == current.id();
+    }
+}
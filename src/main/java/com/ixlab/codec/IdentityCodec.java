@@ -0,0 +1,27 @@
+package com.ixlab.codec;
+
+import java.util.Arrays;
+
+/**
+ * Stores content unchanged.
+ */
+public class IdentityCodec implements ContentCodec {
+
+    public static final byte ID = 0x01;
+
+    @Override
+    public byte id() { return ID; }
+
+    @Override
+    public String name() { return "none"; }
+
+    @Override
+    public byte[] encode(byte[] raw) {
+        return raw;
+    }
+
+    @Override
+    public byte[] decode(byte[] data, int offset, int length) {
+        return Arrays.copyOfRange(data, offset, offset + length);
+    }
+}
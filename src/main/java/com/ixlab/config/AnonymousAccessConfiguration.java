@@ -0,0 +1,30 @@
+package com.ixlab.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Paths served without authentication ({@code buildbag.security.anonymous}), compiled by
+ * {@link SecurityConfiguration} into an {@link com.ixlab.security.AnonymousPathMatcher}.
+ */
+@ConfigurationProperties("buildbag.security.anonymous")
+public class AnonymousAccessConfiguration {
+
+    private List<String> paths = new ArrayList<>();
+    private List<String> prefixes = new ArrayList<>();
+    private List<String> suffixes = new ArrayList<>();
+
+    /** Exact paths, e.g. {@code /login}. */
+    public List<String> getPaths() { return paths; }
+    public void setPaths(List<String> paths) { this.paths = paths; }
+
+    /** Path prefixes, e.g. {@code /static/}. */
+    public List<String> getPrefixes() { return prefixes; }
+    public void setPrefixes(List<String> prefixes) { this.prefixes = prefixes; }
+
+    /** Path suffixes, e.g. {@code .css}. */
+    public List<String> getSuffixes() { return suffixes; }
+    public void setSuffixes(List<String> suffixes) { this.suffixes = suffixes; }
+}
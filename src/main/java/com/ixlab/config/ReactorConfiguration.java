@@ -0,0 +1,28 @@
+package com.ixlab.config;
+
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Factory;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Reactor view of the {@value #JPA} executor ({@code micronaut.executors.jpa}), the pool that
+ * reactive endpoints hand their blocking JPA work to. It is sized to the connection pool: more
+ * threads would only queue inside Hikari, fewer would leave connections idle.
+ */
+@Factory
+public class ReactorConfiguration {
+
+    public static final String JPA = "jpa";
+
+    @Singleton
+    @Named(JPA)
+    @Bean(preDestroy = "dispose")
+    Scheduler jpaScheduler(@Named(JPA) ExecutorService executor) {
+        return Schedulers.fromExecutorService(executor, JPA);
+    }
+}
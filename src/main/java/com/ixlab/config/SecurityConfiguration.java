@@ -1,63 +1,54 @@
 package com.ixlab.config;
 
+import com.ixlab.security.AnonymousPathMatcher;
 import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.http.HttpRequest;
 import io.micronaut.security.rules.SecurityRule;
 import io.micronaut.security.rules.SecurityRuleResult;
 import jakarta.inject.Singleton;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
 @Factory
 public class SecurityConfiguration {
 
+    private static final Mono<SecurityRuleResult> ALLOWED = Mono.just(SecurityRuleResult.ALLOWED);
+    private static final Mono<SecurityRuleResult> REJECTED = Mono.just(SecurityRuleResult.REJECTED);
+    private static final String METRICS_PATH = "/prometheus";
+    private static final String BEARER = "Bearer ";
+
     @Singleton
-    SecurityRule customSecurityRule() {
+    SecurityRule customSecurityRule(AnonymousAccessConfiguration anonymous,
+                                    @Value("${buildbag.security.metrics.scrape-token:}") String scrapeToken) {
+        // Compiled once; per request this is a set lookup and two trie walks
+        AnonymousPathMatcher anonymousPaths = AnonymousPathMatcher.compile(
+            anonymous.getPaths(), anonymous.getPrefixes(), anonymous.getSuffixes());
+        byte[] scrapeCredential = scrapeToken.isEmpty() ? null : scrapeToken.getBytes(StandardCharsets.UTF_8);
+        
         return (request, routeMatch, claims) -> {
-            String path = request.getPath();
-            
-            // Allow anonymous access to root path
-            if (path.equals("/") || path.equals("")) {
-                return Mono.just(SecurityRuleResult.ALLOWED);
+            // Metrics only with the scrape token: a user JWT is not enough, anyone can register for one
+            if (METRICS_PATH.equals(request.getPath())) {
+                return isScrape(request, scrapeCredential) ? ALLOWED : REJECTED;
             }
             
-            // Allow anonymous access to login, register and panel pages
+            // Login, register and panel pages, static resources, auth API and API docs.
             // Panel verifies auth via JavaScript with JWT token
-            if (path.equals("/login") || path.equals("/register") || path.equals("/panel")) {
-                return Mono.just(SecurityRuleResult.ALLOWED);
-            }
-            
-            // Allow anonymous access to static folder
-            if (path.startsWith("/static/")) {
-                return Mono.just(SecurityRuleResult.ALLOWED);
-            }
-            
-            // Allow anonymous access to auth API endpoints
-            if (path.startsWith("/api/auth/")) {
-                return Mono.just(SecurityRuleResult.ALLOWED);
-            }
-            
-            // Allow anonymous access to static resources
-            if (path.startsWith("/css/") || path.startsWith("/js/") || 
-                path.startsWith("/images/") || path.startsWith("/assets/") ||
-                path.endsWith(".css") || path.endsWith(".js") || 
-                path.endsWith(".png") || path.endsWith(".jpg") ||
-                path.endsWith(".ico") || path.endsWith(".svg") ||
-                path.endsWith(".woff") || path.endsWith(".woff2") ||
-                path.endsWith(".ttf")) {
-                return Mono.just(SecurityRuleResult.ALLOWED);
-            }
-            
-            // Allow anonymous access to swagger/openapi endpoints
-            if (path.startsWith("/swagger") || path.startsWith("/rapidoc") || 
-                path.startsWith("/redoc") || path.startsWith("/openapi")) {
-                return Mono.just(SecurityRuleResult.ALLOWED);
+            if (anonymousPaths.matches(request.getPath())) {
+                return ALLOWED;
             }
             
             // All other endpoints require authentication
-            if (claims == null) {
-                return Mono.just(SecurityRuleResult.REJECTED);
-            }
-            
-            return Mono.just(SecurityRuleResult.ALLOWED);
+            return claims == null ? REJECTED : ALLOWED;
         };
     }
+
+    private static boolean isScrape(HttpRequest<?> request, byte[] scrapeCredential) {
+        if (scrapeCredential == null) return false;
+        String authorization = request.getHeaders().getAuthorization().orElse("");
+        return authorization.startsWith(BEARER) && MessageDigest.isEqual(scrapeCredential,
+            authorization.substring(BEARER.length()).trim().getBytes(StandardCharsets.UTF_8));
+    }
 }
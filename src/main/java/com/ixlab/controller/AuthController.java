@@ -1,11 +1,13 @@
 package com.ixlab.controller;
 
-import com.ixlab.domain.User;
 import com.ixlab.dto.AuthResponse;
 import com.ixlab.dto.LoginRequest;
 import com.ixlab.dto.RegisterRequest;
+import com.ixlab.security.AuthenticatedUserResolver;
 import com.ixlab.service.UserService;
+import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.*;
 import io.micronaut.security.annotation.Secured;
@@ -19,6 +21,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @Controller("/api/auth")
 @Tag(name = "Authentication", description = "API for user authentication and registration")
@@ -41,40 +46,42 @@ public class AuthController {
     @Operation(summary = "Register a new user")
     @ApiResponse(responseCode = "200", description = "User registered successfully")
     @ApiResponse(responseCode = "400", description = "Invalid request or username already exists")
-    public HttpResponse<?> register(@Body RegisterRequest request) {
+    @ApiResponse(responseCode = "429", description = "Too many concurrent authentication requests")
+    public CompletableFuture<HttpResponse<?>> register(@Body RegisterRequest request) {
         if (request.getUsername() == null || request.getPassword() == null) {
-            return HttpResponse.badRequest(errorMap("Username and password are required"));
+            return CompletableFuture.completedFuture(HttpResponse.badRequest(errorMap("Username and password are required")));
         }
         
         if (request.getUsername().length() < 3) {
-            return HttpResponse.badRequest(errorMap("Username must be at least 3 characters"));
+            return CompletableFuture.completedFuture(HttpResponse.badRequest(errorMap("Username must be at least 3 characters")));
         }
         
         if (request.getPassword().length() < 6) {
-            return HttpResponse.badRequest(errorMap("Password must be at least 6 characters"));
+            return CompletableFuture.completedFuture(HttpResponse.badRequest(errorMap("Password must be at least 6 characters")));
         }
         
-        try {
-            User u = userService.register(request.getUsername(), request.getPassword());
-            
-            Map<String, Object> claims = new HashMap<>();
-            claims.put("username", u.getUsername());
-            claims.put("sub", u.getUsername());
-            
-            Optional<String> token = tokenGenerator.generateToken(claims);
-            
-            if (token.isPresent()) {
-                AuthResponse response = new AuthResponse(token.get(), u.getUsername());
-                return HttpResponse.ok(response);
-            }
-            
-            Map<String, String> successMap = new HashMap<>();
-            successMap.put("username", u.getUsername());
-            successMap.put("message", "User registered successfully");
-            return HttpResponse.ok(successMap);
-        } catch (Exception e) {
-            return HttpResponse.badRequest(errorMap("Username already exists"));
-        }
+        return userService.registerAsync(request.getUsername(), request.getPassword())
+            .<HttpResponse<?>>thenApply(u -> {
+                Map<String, Object> claims = new HashMap<>();
+                claims.put("username", u.getUsername());
+                claims.put("sub", u.getUsername());
+                claims.put(AuthenticatedUserResolver.USER_ID_CLAIM, u.getId());
+                
+                Optional<String> token = tokenGenerator.generateToken(claims);
+                
+                if (token.isPresent()) {
+                    AuthResponse response = new AuthResponse(token.get(), u.getUsername());
+                    return HttpResponse.ok(response);
+                }
+                
+                Map<String, String> successMap = new HashMap<>();
+                successMap.put("username", u.getUsername());
+                successMap.put("message", "User registered successfully");
+                return HttpResponse.ok(successMap);
+            })
+            .exceptionally(e -> isSaturated(e)
+                ? tooManyRequests()
+                : HttpResponse.badRequest(errorMap("Username already exists")));
     }
 
     @Post(value = "/login", consumes = MediaType.APPLICATION_JSON, produces = MediaType.APPLICATION_JSON)
@@ -82,28 +89,46 @@ public class AuthController {
     @Operation(summary = "Login and get JWT token")
     @ApiResponse(responseCode = "200", description = "Login successful")
     @ApiResponse(responseCode = "401", description = "Invalid credentials")
-    public HttpResponse<?> login(@Body LoginRequest request) {
+    @ApiResponse(responseCode = "429", description = "Too many concurrent authentication requests")
+    public CompletableFuture<HttpResponse<?>> login(@Body LoginRequest request) {
         if (request.getUsername() == null || request.getPassword() == null) {
-            return HttpResponse.badRequest(errorMap("Username and password are required"));
-        }
-        
-        Optional<User> user = userService.authenticate(request.getUsername(), request.getPassword());
-        if (!user.isPresent()) {
-            return HttpResponse.unauthorized();
-        }
-        
-        Map<String, Object> claims = new HashMap<>();
-        claims.put("username", request.getUsername());
-        claims.put("sub", request.getUsername());
-        
-        Optional<String> token = tokenGenerator.generateToken(claims);
-        
-        if (token.isPresent()) {
-            AuthResponse response = new AuthResponse(token.get(), request.getUsername());
-            return HttpResponse.ok(response);
+            return CompletableFuture.completedFuture(HttpResponse.badRequest(errorMap("Username and password are required")));
         }
         
-        return HttpResponse.serverError(errorMap("Failed to generate token"));
+        return userService.authenticateAsync(request.getUsername(), request.getPassword())
+            .<HttpResponse<?>>thenApply(user -> {
+                if (!user.isPresent()) {
+                    return HttpResponse.unauthorized();
+                }
+                
+                Map<String, Object> claims = new HashMap<>();
+                claims.put("username", request.getUsername());
+                claims.put("sub", request.getUsername());
+                claims.put(AuthenticatedUserResolver.USER_ID_CLAIM, user.get().getId());
+                
+                Optional<String> token = tokenGenerator.generateToken(claims);
+                
+                if (token.isPresent()) {
+                    AuthResponse response = new AuthResponse(token.get(), request.getUsername());
+                    return HttpResponse.ok(response);
+                }
+                
+                return HttpResponse.serverError(errorMap("Failed to generate token"));
+            })
+            .exceptionally(e -> isSaturated(e)
+                ? tooManyRequests()
+                : HttpResponse.serverError(errorMap("Authentication failed")));
+    }
+
+    private static boolean isSaturated(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        return cause instanceof RejectedExecutionException;
+    }
+
+    private HttpResponse<?> tooManyRequests() {
+        return HttpResponse.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(errorMap("Too many authentication requests, retry later"));
     }
 
     @Get(value = "/validate", produces = MediaType.APPLICATION_JSON)
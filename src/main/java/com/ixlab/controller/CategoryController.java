@@ -1,11 +1,10 @@
 package com.ixlab.controller;
 
 import com.ixlab.domain.Category;
-import com.ixlab.domain.User;
 import com.ixlab.dto.CategoryDto;
-import com.ixlab.repository.UserRepository;
+import com.ixlab.security.AuthenticatedUserResolver;
 import com.ixlab.service.ConfigurationService;
-import io.micronaut.security.utils.SecurityService;
+import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.*;
@@ -25,29 +24,27 @@ import java.util.Optional;
 public class CategoryController {
 
     private final ConfigurationService configService;
-    private final UserRepository userRepo;
-    private final SecurityService securityService;
+    private final AuthenticatedUserResolver userResolver;
 
-    public CategoryController(ConfigurationService configService, 
-                             UserRepository userRepo, 
-                             SecurityService securityService) {
+    public CategoryController(ConfigurationService configService, AuthenticatedUserResolver userResolver) {
         this.configService = configService;
-        this.userRepo = userRepo;
-        this.securityService = securityService;
-    }
-
-    private Optional<User> userFromSecurity() {
-        return securityService.getAuthentication().flatMap(auth -> userRepo.findByUsername(auth.getName()));
+        this.userResolver = userResolver;
     }
 
     @Get(produces = MediaType.APPLICATION_JSON)
     @Operation(summary = "List all categories for the authenticated user")
     @ApiResponse(responseCode = "200", description = "List of categories")
     @ApiResponse(responseCode = "401", description = "Unauthorized")
-    public HttpResponse<List<CategoryDto>> list() {
-        Optional<User> ou = userFromSecurity();
-        if (!ou.isPresent()) return HttpResponse.unauthorized();
-        return HttpResponse.ok(configService.getCategories(ou.get().getId()));
+    public HttpResponse<List<CategoryDto>> list(HttpRequest<?> request) {
+        Optional<Long> userId = userResolver.currentUserId();
+        if (!userId.isPresent()) return HttpResponse.unauthorized();
+        
+        List<CategoryDto> categories = configService.getCategories(userId.get());
+        String etag = HttpCaching.etagOfCategories(categories);
+        if (HttpCaching.isNotModified(request, etag, null)) {
+            return HttpCaching.withValidators(HttpResponse.notModified(), etag, null);
+        }
+        return HttpCaching.withValidators(HttpResponse.ok(categories), etag, null);
     }
 
     @Post(consumes = MediaType.APPLICATION_JSON, produces = MediaType.APPLICATION_JSON)
@@ -55,15 +52,15 @@ public class CategoryController {
     @ApiResponse(responseCode = "200", description = "Category created")
     @ApiResponse(responseCode = "400", description = "Invalid request")
     public HttpResponse<CategoryDto> create(@Body Map<String, String> body) {
-        Optional<User> ou = userFromSecurity();
-        if (!ou.isPresent()) return HttpResponse.unauthorized();
+        Optional<Long> userId = userResolver.currentUserId();
+        if (!userId.isPresent()) return HttpResponse.unauthorized();
         
         String name = body.get("name");
         if (name == null || name.trim().isEmpty()) {
             return HttpResponse.badRequest();
         }
         
-        Category cat = configService.createCategory(name, ou.get().getId());
+        Category cat = configService.createCategory(name, userId.get());
         return HttpResponse.ok(new CategoryDto(cat.getId(), cat.getName()));
     }
 
@@ -72,11 +69,11 @@ public class CategoryController {
     @ApiResponse(responseCode = "200", description = "Category deleted")
     @ApiResponse(responseCode = "404", description = "Category not found")
     public HttpResponse<?> delete(@PathVariable Long id) {
-        Optional<User> ou = userFromSecurity();
-        if (!ou.isPresent()) return HttpResponse.unauthorized();
+        Optional<Long> userId = userResolver.currentUserId();
+        if (!userId.isPresent()) return HttpResponse.unauthorized();
         
         try {
-            configService.deleteCategory(id, ou.get().getId());
+            configService.deleteCategory(id, userId.get());
             return HttpResponse.ok(Collections.singletonMap("deleted", true));
         } catch (RuntimeException e) {
             return HttpResponse.notFound();
@@ -0,0 +1,84 @@
+package com.ixlab.controller;
+
+import com.ixlab.dto.ChangeBatch;
+import com.ixlab.dto.ConfigurationEvent;
+import com.ixlab.security.AuthenticatedUserResolver;
+import com.ixlab.service.ConfigurationChangeFeed;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Header;
+import io.micronaut.http.annotation.QueryValue;
+import io.micronaut.http.exceptions.HttpStatusException;
+import io.micronaut.http.sse.Event;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Controller("/api/configs/changes")
+@Tag(name = "Change feed", description = "Push notifications of committed configuration changes")
+@SecurityRequirement(name = "bearerAuth")
+public class ChangeFeedController {
+
+    static final String HEARTBEAT_EVENT = "heartbeat";
+    static final int DEFAULT_POLL_SECONDS = 30;
+    static final int MAX_POLL_SECONDS = 120;
+
+    private final ConfigurationChangeFeed feed;
+    private final AuthenticatedUserResolver userResolver;
+    private final Duration heartbeat;
+
+    public ChangeFeedController(ConfigurationChangeFeed feed,
+                                AuthenticatedUserResolver userResolver,
+                                @Value("${buildbag.changes.heartbeat:30s}") Duration heartbeat) {
+        this.feed = feed;
+        this.userResolver = userResolver;
+        this.heartbeat = heartbeat;
+    }
+
+    @Get(produces = MediaType.TEXT_EVENT_STREAM)
+    @Operation(summary = "Stream changes of the user's configurations as Server-Sent Events",
+               description = "Each event carries the change version as its id, so a reconnecting EventSource resumes "
+                   + "from Last-Event-ID (or the 'after' parameter). If changes were missed a 'reset' event is sent "
+                   + "first and the client must reload. Idle connections get a 'heartbeat' event periodically.")
+    @ApiResponse(responseCode = "200", description = "Event stream")
+    public Flux<Event<Object>> stream(@Nullable @Header("Last-Event-ID") Long lastEventId,
+                                      @Nullable @QueryValue Long after) {
+        Optional<Long> userId = userResolver.currentUserId();
+        if (!userId.isPresent()) return Flux.error(new HttpStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized"));
+
+        Flux<Event<Object>> changes = feed.watch(userId.get(), lastEventId != null ? lastEventId : after)
+            .map(ChangeFeedController::toEvent);
+        Flux<Event<Object>> heartbeats = Flux.interval(heartbeat, heartbeat)
+            .map(tick -> Event.<Object>of(String.valueOf(feed.currentVersion())).name(HEARTBEAT_EVENT));
+        return Flux.merge(changes, heartbeats);
+    }
+
+    @Get(value = "/poll", produces = MediaType.APPLICATION_JSON)
+    @Operation(summary = "Long-poll for changes of the user's configurations after a version",
+               description = "Answers as soon as there are changes after 'after', or with none once 'timeout' seconds "
+                   + "pass. Pass the returned version as 'after' next time; without 'after' the current version "
+                   + "is returned at once. 'reset' means changes were missed and the client must reload.")
+    @ApiResponse(responseCode = "200", description = "Changes after the cursor and the next cursor")
+    public Mono<ChangeBatch> poll(@Nullable @QueryValue Long after, @Nullable @QueryValue Integer timeout) {
+        Optional<Long> userId = userResolver.currentUserId();
+        if (!userId.isPresent()) return Mono.error(new HttpStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized"));
+
+        int seconds = timeout == null || timeout < 0 ? DEFAULT_POLL_SECONDS : Math.min(timeout, MAX_POLL_SECONDS);
+        return feed.poll(userId.get(), after, Duration.ofSeconds(seconds));
+    }
+
+    private static Event<Object> toEvent(ConfigurationEvent change) {
+        Event<Object> event = Event.<Object>of(change).id(String.valueOf(change.getVersion()));
+        return ConfigurationEvent.RESET.equals(change.getType()) ? event.name(ConfigurationEvent.RESET) : event;
+    }
+}
@@ -1,76 +1,240 @@
 package com.ixlab.controller;
 
-import com.ixlab.domain.User;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ixlab.config.ReactorConfiguration;
+import com.ixlab.dto.BulkImportResult;
 import com.ixlab.dto.CategoryDto;
 import com.ixlab.dto.ConfigurationDto;
+import com.ixlab.dto.ConfigurationFilter;
+import com.ixlab.dto.ConfigurationPage;
+import com.ixlab.dto.ConfigurationVersion;
 import com.ixlab.dto.SaveConfigurationRequest;
-import com.ixlab.repository.UserRepository;
+import com.ixlab.security.AuthenticatedUserResolver;
+import com.ixlab.service.ConfigurationBulkImporter;
+import com.ixlab.service.ConfigurationConflictException;
+import com.ixlab.service.ConfigurationPatcher;
 import com.ixlab.service.ConfigurationService;
-import io.micronaut.security.utils.SecurityService;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
 import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.annotation.*;
+import io.micronaut.http.exceptions.HttpStatusException;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.annotation.ExecuteOn;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.inject.Named;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
+import java.io.InputStream;
+import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
 
+/**
+ * Read endpoints return {@link Mono}: they leave the event loop at once and run their JPA
+ * work on the {@code jpa} scheduler, sized to the connection pool, instead of blocking Netty.
+ * <p>
+ * Writes of a single configuration answer 409 when a concurrent update committed first,
+ * and honour {@code If-Match} with the ETag of {@code GET /{id}} (412 when it is stale).
+ */
 @Controller("/api/configs")
 @Tag(name = "Configurations", description = "API for managing configuration files")
 @SecurityRequirement(name = "bearerAuth")
 public class ConfigController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String NDJSON = "application/x-ndjson";
+    static final String MERGE_PATCH = "application/merge-patch+json";
+
     private final ConfigurationService configService;
-    private final UserRepository userRepo;
-    private final SecurityService securityService;
+    private final ConfigurationBulkImporter bulkImporter;
+    private final ConfigurationPatcher patcher;
+    private final AuthenticatedUserResolver userResolver;
+    private final Scheduler jpaScheduler;
 
-    public ConfigController(ConfigurationService configService, 
-                           UserRepository userRepo, 
-                           SecurityService securityService) {
+    public ConfigController(ConfigurationService configService,
+                            ConfigurationBulkImporter bulkImporter,
+                            ConfigurationPatcher patcher,
+                            AuthenticatedUserResolver userResolver,
+                            @Named(ReactorConfiguration.JPA) Scheduler jpaScheduler) {
         this.configService = configService;
-        this.userRepo = userRepo;
-        this.securityService = securityService;
-    }
-
-    private Optional<User> userFromSecurity() {
-        return securityService.getAuthentication().flatMap(auth -> userRepo.findByUsername(auth.getName()));
+        this.bulkImporter = bulkImporter;
+        this.patcher = patcher;
+        this.userResolver = userResolver;
+        this.jpaScheduler = jpaScheduler;
     }
 
     @Get(produces = MediaType.APPLICATION_JSON)
-    @Operation(summary = "List all configurations for the authenticated user")
+    @Operation(summary = "List configurations for the authenticated user",
+               description = "Optional filters by category, subcategory and name prefix. With `limit`, results are "
+                   + "paginated by keyset and the next page cursor is returned in the X-Next-Cursor header. "
+                   + "`sort` accepts id, updatedAt or name, prefixed with '-' for descending order.")
     @ApiResponse(responseCode = "200", description = "List of configurations")
+    @ApiResponse(responseCode = "400", description = "Invalid sort or cursor")
     @ApiResponse(responseCode = "401", description = "Unauthorized")
-    public HttpResponse<List<ConfigurationDto>> list() {
-        Optional<User> ou = userFromSecurity();
-        if (!ou.isPresent()) return HttpResponse.unauthorized();
-        return HttpResponse.ok(configService.getConfigurations(ou.get().getId()));
+    public Mono<HttpResponse<List<ConfigurationDto>>> list(HttpRequest<?> request,
+                                                           @Nullable @QueryValue Long categoryId,
+                                                           @Nullable @QueryValue String subcategory,
+                                                           @Nullable @QueryValue String namePrefix,
+                                                           @Nullable @QueryValue String sort,
+                                                           @Nullable @QueryValue Integer limit,
+                                                           @Nullable @QueryValue String cursor) {
+        Optional<Long> userId = userResolver.currentUserId();
+        if (!userId.isPresent()) return Mono.just(HttpResponse.unauthorized());
+        
+        ConfigurationFilter filter = new ConfigurationFilter();
+        filter.setCategoryId(categoryId);
+        filter.setSubcategory(subcategory);
+        filter.setNamePrefix(namePrefix);
+        filter.setSort(sort);
+        filter.setLimit(limit);
+        filter.setCursor(cursor);
+        
+        return blocking(() -> {
+            ConfigurationPage page;
+            try {
+                page = configService.getConfigurations(userId.get(), filter);
+            } catch (IllegalArgumentException e) {
+                return HttpResponse.badRequest();
+            }
+            List<ConfigurationDto> configs = page.getItems();
+            String etag = HttpCaching.etagOfConfigurations(configs);
+            if (HttpCaching.isNotModified(request, etag, null)) {
+                return HttpCaching.withValidators(HttpResponse.notModified(), etag, null);
+            }
+            MutableHttpResponse<List<ConfigurationDto>> response = HttpCaching.withValidators(HttpResponse.ok(configs), etag, null);
+            if (page.getNextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+            return response;
+        });
     }
 
     @Get(value = "/{id}", produces = MediaType.APPLICATION_JSON)
     @Operation(summary = "Get a specific configuration by ID")
     @ApiResponse(responseCode = "200", description = "Configuration found")
+    @ApiResponse(responseCode = "304", description = "Configuration not modified")
     @ApiResponse(responseCode = "404", description = "Configuration not found")
-    public HttpResponse<ConfigurationDto> get(@PathVariable Long id) {
-        Optional<User> ou = userFromSecurity();
-        if (!ou.isPresent()) return HttpResponse.unauthorized();
+    public Mono<HttpResponse<ConfigurationDto>> get(@PathVariable Long id, HttpRequest<?> request) {
+        Optional<Long> userId = userResolver.currentUserId();
+        if (!userId.isPresent()) return Mono.just(HttpResponse.unauthorized());
         
-        Optional<ConfigurationDto> config = configService.getConfiguration(id, ou.get().getId());
-        if (!config.isPresent()) return HttpResponse.notFound();
+        return blocking(() -> {
+            Optional<ConfigurationVersion> version = configService.getVersion(id, userId.get());
+            if (!version.isPresent()) return HttpResponse.notFound();
+            
+            String etag = HttpCaching.etag(version.get());
+            ZonedDateTime lastModified = HttpCaching.lastModified(version.get());
+            if (HttpCaching.isNotModified(request, etag, lastModified)) {
+                return HttpCaching.withValidators(HttpResponse.notModified(), etag, lastModified);
+            }
+            
+            Optional<ConfigurationDto> config = configService.getConfiguration(id, userId.get());
+            if (!config.isPresent()) return HttpResponse.notFound();
+            
+            return HttpCaching.withValidators(HttpResponse.ok(config.get()), etag, lastModified);
+        });
+    }
+
+    @Get(value = "/{id}/content", produces = MediaType.APPLICATION_JSON)
+    @Operation(summary = "Download the raw stored content of a configuration")
+    @ApiResponse(responseCode = "200", description = "Configuration content")
+    @ApiResponse(responseCode = "404", description = "Configuration not found")
+    public Mono<HttpResponse<byte[]>> getContent(@PathVariable Long id, HttpRequest<?> request) {
+        Optional<Long> userId = userResolver.currentUserId();
+        if (!userId.isPresent()) return Mono.just(HttpResponse.unauthorized());
+        
+        return blocking(() -> {
+            Optional<ConfigurationVersion> version = configService.getVersion(id, userId.get());
+            if (!version.isPresent()) return HttpResponse.notFound();
+            
+            String etag = HttpCaching.contentEtag(version.get());
+            ZonedDateTime lastModified = HttpCaching.lastModified(version.get());
+            if (HttpCaching.isNotModified(request, etag, lastModified)) {
+                return HttpCaching.withValidators(HttpResponse.notModified(), etag, lastModified);
+            }
+            
+            Optional<byte[]> content = configService.getContent(id, userId.get());
+            if (!content.isPresent()) return HttpResponse.notFound();
+            
+            return HttpCaching.withValidators(HttpResponse.ok(content.get()), etag, lastModified)
+                    .contentType(MediaType.APPLICATION_JSON_TYPE)
+                    .contentLength(content.get().length);
+        });
+    }
+
+    @Get(value = "/{id}/properties", produces = MediaType.TEXT_PLAIN)
+    @Operation(summary = "Render a configuration as a .properties file")
+    @ApiResponse(responseCode = "200", description = "Rendered .properties content")
+    @ApiResponse(responseCode = "400", description = "Stored content is not a valid configuration")
+    @ApiResponse(responseCode = "404", description = "Configuration not found")
+    public Mono<HttpResponse<String>> getProperties(@PathVariable Long id) {
+        Optional<Long> userId = userResolver.currentUserId();
+        if (!userId.isPresent()) return Mono.just(HttpResponse.unauthorized());
         
-        return HttpResponse.ok(config.get());
+        return blocking(() -> {
+            try {
+                Optional<String> properties = configService.renderProperties(id, userId.get());
+                if (!properties.isPresent()) return HttpResponse.notFound();
+                return HttpResponse.ok(properties.get()).contentType(MediaType.TEXT_PLAIN + ";charset=UTF-8");
+            } catch (IllegalArgumentException e) {
+                return HttpResponse.badRequest();
+            }
+        });
+    }
+
+    @Put(value = "/{id}/content", consumes = {MediaType.APPLICATION_OCTET_STREAM, MediaType.TEXT_PLAIN}, produces = MediaType.APPLICATION_JSON)
+    @Operation(summary = "Replace the raw content of a configuration")
+    @ApiResponse(responseCode = "200", description = "Content updated")
+    @ApiResponse(responseCode = "404", description = "Configuration not found")
+    @ApiResponse(responseCode = "409", description = "Modified concurrently by another update")
+    @ApiResponse(responseCode = "412", description = "If-Match does not match the current ETag")
+    public HttpResponse<ConfigurationDto> putContent(@PathVariable Long id, @Body byte[] content, HttpRequest<?> request) {
+        Optional<Long> userId = userResolver.currentUserId();
+        if (!userId.isPresent()) return HttpResponse.unauthorized();
+        
+        if (content == null || content.length == 0) {
+            return HttpResponse.badRequest();
+        }
+        
+        Long expectedVersion = expectedVersion(id, userId.get(), request, HttpCaching::contentEtag);
+        try {
+            ConfigurationDto dto = configService.updateContent(id, content, userId.get(), expectedVersion);
+            return HttpResponse.ok(dto).header(HttpHeaders.ETAG, HttpCaching.contentEtag(dto));
+        } catch (ConfigurationConflictException e) {
+            return HttpResponse.status(HttpStatus.CONFLICT);
+        } catch (RuntimeException e) {
+            return HttpResponse.notFound();
+        }
     }
 
     @Get(value = "/with-categories", produces = MediaType.APPLICATION_JSON)
     @Operation(summary = "List all categories with their configurations")
     @ApiResponse(responseCode = "200", description = "List of categories with configurations")
-    public HttpResponse<List<CategoryDto>> listWithCategories() {
-        Optional<User> ou = userFromSecurity();
-        if (!ou.isPresent()) return HttpResponse.unauthorized();
-        return HttpResponse.ok(configService.getCategoriesWithConfigurations(ou.get().getId()));
+    @ApiResponse(responseCode = "304", description = "Not modified")
+    public Mono<HttpResponse<List<CategoryDto>>> listWithCategories(HttpRequest<?> request) {
+        Optional<Long> userId = userResolver.currentUserId();
+        if (!userId.isPresent()) return Mono.just(HttpResponse.unauthorized());
+        
+        return blocking(() -> {
+            List<CategoryDto> categories = configService.getCategoriesWithConfigurations(userId.get());
+            String etag = HttpCaching.etagOfCategories(categories);
+            if (HttpCaching.isNotModified(request, etag, null)) {
+                return HttpCaching.withValidators(HttpResponse.notModified(), etag, null);
+            }
+            return HttpCaching.withValidators(HttpResponse.ok(categories), etag, null);
+        });
     }
 
     @Post(consumes = MediaType.APPLICATION_JSON, produces = MediaType.APPLICATION_JSON)
@@ -78,32 +242,84 @@ public class ConfigController {
     @ApiResponse(responseCode = "200", description = "Configuration created")
     @ApiResponse(responseCode = "400", description = "Invalid request")
     public HttpResponse<ConfigurationDto> create(@Body SaveConfigurationRequest request) {
-        Optional<User> ou = userFromSecurity();
-        if (!ou.isPresent()) return HttpResponse.unauthorized();
+        Optional<Long> userId = userResolver.currentUserId();
+        if (!userId.isPresent()) return HttpResponse.unauthorized();
         
         if (request.getName() == null || request.getJson() == null) {
             return HttpResponse.badRequest();
         }
         
         try {
-            ConfigurationDto dto = configService.saveConfiguration(request, ou.get().getId());
+            ConfigurationDto dto = configService.saveConfiguration(request, userId.get());
             return HttpResponse.ok(dto);
         } catch (Exception e) {
             return HttpResponse.badRequest();
         }
     }
 
+    @Post(value = "/bulk", consumes = {MediaType.APPLICATION_JSON, NDJSON}, produces = MediaType.APPLICATION_JSON)
+    @ExecuteOn(TaskExecutors.IO)
+    @Operation(summary = "Create many configurations from a JSON array or NDJSON stream",
+               description = "Items are read as they arrive and written in chunks, one transaction per chunk. "
+                   + "The response reports the outcome of every item by its position in the input.")
+    @ApiResponse(responseCode = "200", description = "Per-item results")
+    @ApiResponse(responseCode = "401", description = "Unauthorized")
+    public HttpResponse<BulkImportResult> bulk(@Body InputStream body) {
+        Optional<Long> userId = userResolver.currentUserId();
+        if (!userId.isPresent()) return HttpResponse.unauthorized();
+        
+        return HttpResponse.ok(bulkImporter.importAll(body, userId.get()));
+    }
+
     @Put(value = "/{id}", consumes = MediaType.APPLICATION_JSON, produces = MediaType.APPLICATION_JSON)
-    @Operation(summary = "Update an existing configuration")
+    @Operation(summary = "Update an existing configuration",
+               description = "Send the ETag of the version being edited in If-Match to avoid overwriting someone "
+                   + "else's changes. The response carries the ETag of the new version.")
     @ApiResponse(responseCode = "200", description = "Configuration updated")
     @ApiResponse(responseCode = "404", description = "Configuration not found")
-    public HttpResponse<ConfigurationDto> update(@PathVariable Long id, @Body SaveConfigurationRequest request) {
-        Optional<User> ou = userFromSecurity();
-        if (!ou.isPresent()) return HttpResponse.unauthorized();
+    @ApiResponse(responseCode = "409", description = "Modified concurrently by another update")
+    @ApiResponse(responseCode = "412", description = "If-Match does not match the current ETag")
+    public HttpResponse<ConfigurationDto> update(@PathVariable Long id, @Body SaveConfigurationRequest body,
+                                                 HttpRequest<?> request) {
+        Optional<Long> userId = userResolver.currentUserId();
+        if (!userId.isPresent()) return HttpResponse.unauthorized();
         
+        Long expectedVersion = expectedVersion(id, userId.get(), request, HttpCaching::etag);
         try {
-            ConfigurationDto dto = configService.updateConfiguration(id, request, ou.get().getId());
-            return HttpResponse.ok(dto);
+            ConfigurationDto dto = configService.updateConfiguration(id, body, userId.get(), expectedVersion);
+            return HttpResponse.ok(dto).header(HttpHeaders.ETAG, HttpCaching.etag(dto));
+        } catch (ConfigurationConflictException e) {
+            return HttpResponse.status(HttpStatus.CONFLICT);
+        } catch (RuntimeException e) {
+            return HttpResponse.notFound();
+        }
+    }
+
+    @Patch(value = "/{id}", consumes = {MERGE_PATCH, MediaType.APPLICATION_JSON}, produces = MediaType.APPLICATION_JSON)
+    @Operation(summary = "Apply a JSON merge patch (RFC 7396) to the content of a configuration",
+               description = "Only the members in the patch change and null removes one; arrays are replaced whole. "
+                   + "globalProperties and domainProperties also take an object keyed by property key: each entry "
+                   + "is merged into that property (null removes it, category places it). The patch is merged onto "
+                   + "the latest content, retrying if another update commits first, so concurrent patches of "
+                   + "different members or properties all succeed. With If-Match it is applied only to that "
+                   + "version and never retried.")
+    @ApiResponse(responseCode = "200", description = "Content patched")
+    @ApiResponse(responseCode = "400", description = "Stored content is not JSON, or the patch does not fit it")
+    @ApiResponse(responseCode = "404", description = "Configuration not found")
+    @ApiResponse(responseCode = "409", description = "Modified concurrently by another update")
+    @ApiResponse(responseCode = "412", description = "If-Match does not match the current ETag")
+    public HttpResponse<ConfigurationDto> patch(@PathVariable Long id, @Body JsonNode patch, HttpRequest<?> request) {
+        Optional<Long> userId = userResolver.currentUserId();
+        if (!userId.isPresent()) return HttpResponse.unauthorized();
+        
+        Long expectedVersion = expectedVersion(id, userId.get(), request, HttpCaching::etag);
+        try {
+            ConfigurationDto dto = patcher.patch(id, patch, userId.get(), expectedVersion);
+            return HttpResponse.ok(dto).header(HttpHeaders.ETAG, HttpCaching.etag(dto));
+        } catch (ConfigurationConflictException e) {
+            return HttpResponse.status(HttpStatus.CONFLICT);
+        } catch (IllegalArgumentException e) {
+            return HttpResponse.badRequest();
         } catch (RuntimeException e) {
             return HttpResponse.notFound();
         }
@@ -114,14 +330,39 @@ public class ConfigController {
     @ApiResponse(responseCode = "200", description = "Configuration deleted")
     @ApiResponse(responseCode = "404", description = "Configuration not found")
     public HttpResponse<?> delete(@PathVariable Long id) {
-        Optional<User> ou = userFromSecurity();
-        if (!ou.isPresent()) return HttpResponse.unauthorized();
+        Optional<Long> userId = userResolver.currentUserId();
+        if (!userId.isPresent()) return HttpResponse.unauthorized();
         
         try {
-            configService.deleteConfiguration(id, ou.get().getId());
+            configService.deleteConfiguration(id, userId.get());
             return HttpResponse.ok(Collections.singletonMap("deleted", true));
         } catch (RuntimeException e) {
             return HttpResponse.notFound();
         }
     }
+
+    /**
+     * Version a write with {@code If-Match} expects the configuration to still have, or null
+     * without the header. The service checks it again in the write transaction.
+     *
+     * @param etag tag of the representation the endpoint serves
+     */
+    private Long expectedVersion(Long id, Long userId, HttpRequest<?> request,
+                                 Function<ConfigurationVersion, String> etag) {
+        if (!request.getHeaders().contains(HttpHeaders.IF_MATCH)) return null;
+        ConfigurationVersion current = configService.getVersion(id, userId)
+            .orElseThrow(() -> new HttpStatusException(HttpStatus.NOT_FOUND, "Configuration not found"));
+        if (HttpCaching.isPreconditionFailed(request, etag.apply(current))) {
+            throw new HttpStatusException(HttpStatus.PRECONDITION_FAILED, "Configuration has changed");
+        }
+        return current.getVersion();
+    }
+
+    /**
+     * Runs a blocking read on the {@code jpa} scheduler. The user must be resolved before,
+     * on the request thread, where the security context is available.
+     */
+    private <T> Mono<HttpResponse<T>> blocking(Callable<HttpResponse<T>> read) {
+        return Mono.fromCallable(read).subscribeOn(jpaScheduler);
+    }
 }
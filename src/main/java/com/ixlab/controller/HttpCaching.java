@@ -0,0 +1,168 @@
+package com.ixlab.controller;
+
+import com.ixlab.dto.CategoryDto;
+import com.ixlab.dto.ConfigurationDto;
+import com.ixlab.dto.ConfigurationVersion;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MutableHttpResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Strong ETags and conditional request handling ({@code If-None-Match}, {@code If-Modified-Since})
+ * for the read endpoints. Tags are computed from metadata only, never from the content.
+ */
+final class HttpCaching {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private HttpCaching() {}
+
+    /**
+     * Every update of a configuration increments its version, so id and version identify
+     * the state. The same tag is returned by updates and accepted in {@code If-Match}.
+     */
+    static String etag(ConfigurationVersion version) {
+        return etag(version.getId(), version.getVersion());
+    }
+
+    static String etag(ConfigurationDto dto) {
+        return etag(dto.getId(), dto.getVersion());
+    }
+
+    /**
+     * Tag of the raw content served by {@code GET /{id}/content}. A different representation
+     * of the same version, so it must not share the tag of the configuration document.
+     */
+    static String contentEtag(ConfigurationVersion version) {
+        return etag(version.getId(), version.getVersion(), "content");
+    }
+
+    static String contentEtag(ConfigurationDto dto) {
+        return etag(dto.getId(), dto.getVersion(), "content");
+    }
+
+    private static String etag(Long id, Long version) {
+        return new Tag().add(id).add(version).build();
+    }
+
+    private static String etag(Long id, Long version, String representation) {
+        return new Tag().add(id).add(version).add(representation).build();
+    }
+
+    static String etagOfConfigurations(List<ConfigurationDto> configs) {
+        Tag tag = new Tag();
+        for (ConfigurationDto dto : configs) {
+            add(tag, dto);
+        }
+        return tag.build();
+    }
+
+    static String etagOfCategories(List<CategoryDto> categories) {
+        Tag tag = new Tag();
+        for (CategoryDto category : categories) {
+            tag.add(category.getId()).add(category.getName());
+            if (category.getConfigurations() != null) {
+                tag.add(category.getConfigurations().size());
+                for (ConfigurationDto dto : category.getConfigurations()) {
+                    add(tag, dto);
+                }
+            }
+        }
+        return tag.build();
+    }
+
+    static ZonedDateTime lastModified(ConfigurationVersion version) {
+        if (version.getUpdatedAt() == null) return null;
+        return version.getUpdatedAt().atZone(ZoneId.systemDefault()).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    /**
+     * RFC 7232: {@code If-None-Match} wins over {@code If-Modified-Since} when both are sent.
+     */
+    static boolean isNotModified(HttpRequest<?> request, String etag, ZonedDateTime lastModified) {
+        HttpHeaders headers = request.getHeaders();
+        String ifNoneMatch = headers.get(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return matches(ifNoneMatch, etag);
+        }
+        if (lastModified != null) {
+            Optional<ZonedDateTime> since = headers.findDate(HttpHeaders.IF_MODIFIED_SINCE);
+            return since.isPresent() && !lastModified.isAfter(since.get());
+        }
+        return false;
+    }
+
+    /**
+     * RFC 7232: a write with {@code If-Match} only proceeds if one of the listed tags (or
+     * {@code *}) matches the current one. Without the header there is no precondition.
+     */
+    static boolean isPreconditionFailed(HttpRequest<?> request, String etag) {
+        String ifMatch = request.getHeaders().get(HttpHeaders.IF_MATCH);
+        return ifMatch != null && !matches(ifMatch, etag);
+    }
+
+    private static boolean matches(String header, String etag) {
+        for (String candidate : header.split(",")) {
+            String c = candidate.trim();
+            if (c.equals("*") || c.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static <T> MutableHttpResponse<T> withValidators(MutableHttpResponse<T> response, String etag, ZonedDateTime lastModified) {
+        response.header(HttpHeaders.ETAG, etag);
+        if (lastModified != null) {
+            response.header(HttpHeaders.LAST_MODIFIED,
+                DateTimeFormatter.RFC_1123_DATE_TIME.format(lastModified.withZoneSameInstant(ZoneOffset.UTC)));
+        }
+        return response;
+    }
+
+    private static void add(Tag tag, ConfigurationDto dto) {
+        tag.add(dto.getId()).add(dto.getName()).add(dto.getSubcategory())
+            .add(dto.getCategoryId()).add(dto.getCategoryName()).add(dto.getUpdatedAt());
+    }
+
+    private static final class Tag {
+        private final MessageDigest digest;
+
+        Tag() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+
+        Tag add(Object value) {
+            digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            return this;
+        }
+
+        String build() {
+            byte[] hash = digest.digest();
+            char[] out = new char[34];
+            out[0] = '"';
+            for (int i = 0; i < 16; i++) {
+                out[1 + i * 2] = HEX[(hash[i] >> 4) & 0x0f];
+                out[2 + i * 2] = HEX[hash[i] & 0x0f];
+            }
+            out[33] = '"';
+            return new String(out);
+        }
+    }
+}
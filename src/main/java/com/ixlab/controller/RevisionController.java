@@ -0,0 +1,100 @@
+package com.ixlab.controller;
+
+import com.ixlab.dto.ConfigurationDto;
+import com.ixlab.dto.RevisionDiff;
+import com.ixlab.dto.RevisionDto;
+import com.ixlab.security.AuthenticatedUserResolver;
+import com.ixlab.service.ConfigurationConflictException;
+import com.ixlab.service.ConfigurationRevisionService;
+import com.ixlab.service.ConfigurationService;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.*;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import java.util.List;
+import java.util.Optional;
+
+@Controller("/api/configs/{id}/revisions")
+@Tag(name = "Revisions", description = "API for the version history of configuration files")
+@SecurityRequirement(name = "bearerAuth")
+public class RevisionController {
+
+    private final ConfigurationRevisionService revisionService;
+    private final ConfigurationService configService;
+    private final AuthenticatedUserResolver userResolver;
+
+    public RevisionController(ConfigurationRevisionService revisionService,
+                              ConfigurationService configService,
+                              AuthenticatedUserResolver userResolver) {
+        this.revisionService = revisionService;
+        this.configService = configService;
+        this.userResolver = userResolver;
+    }
+
+    @Get(produces = MediaType.APPLICATION_JSON)
+    @Operation(summary = "List the revisions of a configuration, newest first")
+    @ApiResponse(responseCode = "200", description = "List of revisions")
+    @ApiResponse(responseCode = "404", description = "Configuration not found")
+    public HttpResponse<List<RevisionDto>> list(@PathVariable Long id) {
+        Optional<Long> userId = userResolver.currentUserId();
+        if (!userId.isPresent()) return HttpResponse.unauthorized();
+        
+        return revisionService.getRevisions(id, userId.get())
+            .<HttpResponse<List<RevisionDto>>>map(HttpResponse::ok)
+            .orElseGet(HttpResponse::notFound);
+    }
+
+    @Get(value = "/diff", produces = MediaType.APPLICATION_JSON)
+    @Operation(summary = "Diff two revisions of a configuration as JSON Pointer changes")
+    @ApiResponse(responseCode = "200", description = "Changes from one revision to the other")
+    @ApiResponse(responseCode = "400", description = "Revision content is not JSON")
+    @ApiResponse(responseCode = "404", description = "Configuration or revision not found")
+    public HttpResponse<RevisionDiff> diff(@PathVariable Long id, @QueryValue int from, @QueryValue int to) {
+        Optional<Long> userId = userResolver.currentUserId();
+        if (!userId.isPresent()) return HttpResponse.unauthorized();
+        
+        try {
+            return revisionService.diff(id, from, to, userId.get())
+                .<HttpResponse<RevisionDiff>>map(HttpResponse::ok)
+                .orElseGet(HttpResponse::notFound);
+        } catch (IllegalArgumentException e) {
+            return HttpResponse.badRequest();
+        }
+    }
+
+    @Get(value = "/{revision}", produces = MediaType.APPLICATION_JSON)
+    @Operation(summary = "Get a revision of a configuration (includes contentBase64)")
+    @ApiResponse(responseCode = "200", description = "Revision found")
+    @ApiResponse(responseCode = "404", description = "Configuration or revision not found")
+    public HttpResponse<RevisionDto> get(@PathVariable Long id, @PathVariable int revision) {
+        Optional<Long> userId = userResolver.currentUserId();
+        if (!userId.isPresent()) return HttpResponse.unauthorized();
+        
+        return revisionService.getRevision(id, revision, userId.get())
+            .<HttpResponse<RevisionDto>>map(HttpResponse::ok)
+            .orElseGet(HttpResponse::notFound);
+    }
+
+    @Post(value = "/{revision}/rollback", produces = MediaType.APPLICATION_JSON)
+    @Operation(summary = "Restore the content of a revision as a new revision")
+    @ApiResponse(responseCode = "200", description = "Configuration restored")
+    @ApiResponse(responseCode = "404", description = "Configuration or revision not found")
+    @ApiResponse(responseCode = "409", description = "Modified concurrently by another update")
+    public HttpResponse<ConfigurationDto> rollback(@PathVariable Long id, @PathVariable int revision) {
+        Optional<Long> userId = userResolver.currentUserId();
+        if (!userId.isPresent()) return HttpResponse.unauthorized();
+        
+        try {
+            return HttpResponse.ok(configService.rollback(id, revision, userId.get()));
+        } catch (ConfigurationConflictException e) {
+            return HttpResponse.status(HttpStatus.CONFLICT);
+        } catch (RuntimeException e) {
+            return HttpResponse.notFound();
+        }
+    }
+}
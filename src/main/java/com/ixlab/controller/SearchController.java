@@ -0,0 +1,56 @@
+package com.ixlab.controller;
+
+import com.ixlab.dto.SearchHit;
+import com.ixlab.security.AuthenticatedUserResolver;
+import com.ixlab.service.ConfigurationSearchIndex;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.QueryValue;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import java.util.List;
+import java.util.Optional;
+
+@Controller("/api/search")
+@Tag(name = "Search", description = "API to find configurations by property key or value")
+@SecurityRequirement(name = "bearerAuth")
+public class SearchController {
+
+    static final int DEFAULT_LIMIT = 100;
+    static final int MAX_LIMIT = 1000;
+
+    private final ConfigurationSearchIndex searchIndex;
+    private final AuthenticatedUserResolver userResolver;
+
+    public SearchController(ConfigurationSearchIndex searchIndex, AuthenticatedUserResolver userResolver) {
+        this.searchIndex = searchIndex;
+        this.userResolver = userResolver;
+    }
+
+    @Get(produces = MediaType.APPLICATION_JSON)
+    @Operation(summary = "Find the configurations that set a property key and/or value",
+               description = "Matching is case-insensitive and exact; a trailing * makes it a prefix match. "
+                   + "A value also matches any word of a stored value, e.g. a hostname inside a URL.")
+    @ApiResponse(responseCode = "200", description = "Matching properties with their configuration and JSON Pointer path")
+    @ApiResponse(responseCode = "400", description = "Neither key nor value given")
+    public HttpResponse<List<SearchHit>> search(@Nullable @QueryValue String key,
+                                                @Nullable @QueryValue String value,
+                                                @Nullable @QueryValue Integer limit) {
+        Optional<Long> userId = userResolver.currentUserId();
+        if (!userId.isPresent()) return HttpResponse.unauthorized();
+
+        if (isBlank(key) && isBlank(value)) return HttpResponse.badRequest();
+        int max = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        return HttpResponse.ok(searchIndex.search(userId.get(), key, value, max));
+    }
+
+    private static boolean isBlank(String s) {
+        return s == null || s.trim().isEmpty() || "*".equals(s.trim());
+    }
+}
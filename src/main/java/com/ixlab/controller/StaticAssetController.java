@@ -0,0 +1,46 @@
+package com.ixlab.controller;
+
+import com.ixlab.service.StaticAssetCatalog;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Header;
+import io.micronaut.security.annotation.Secured;
+import io.micronaut.security.rules.SecurityRule;
+
+/**
+ * Serves the content-hashed static resources of {@link StaticAssetCatalog}. The name changes
+ * with the content, so responses are immutable; the gzip variant is sent as it was built,
+ * and Netty leaves responses that already carry a {@code Content-Encoding} alone.
+ */
+@Controller(StaticAssetCatalog.BASE_PATH)
+@Secured(SecurityRule.IS_ANONYMOUS)
+public class StaticAssetController {
+
+    static final String IMMUTABLE = "public, max-age=31536000, immutable";
+
+    private final StaticAssetCatalog assets;
+
+    public StaticAssetController(StaticAssetCatalog assets) {
+        this.assets = assets;
+    }
+
+    @Get("/{file}")
+    public HttpResponse<byte[]> get(String file, @Nullable @Header(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding) {
+        StaticAssetCatalog.Asset asset = assets.find(file);
+        if (asset == null) return HttpResponse.notFound();
+
+        boolean gzip = asset.getGzipped() != null && StaticAssetCatalog.acceptsGzip(acceptEncoding);
+        MutableHttpResponse<byte[]> response = HttpResponse.ok(gzip ? asset.getGzipped() : asset.getContent())
+            .contentType(asset.getMediaType())
+            .header(HttpHeaders.CACHE_CONTROL, IMMUTABLE)
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response;
+    }
+}
@@ -1,51 +1,80 @@
 package com.ixlab.controller;
 
+import com.ixlab.render.RenderedViewCache;
+import com.ixlab.service.StaticAssetCatalog;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Get;
+import io.micronaut.http.server.util.locale.HttpLocaleResolver;
+import io.micronaut.runtime.event.annotation.EventListener;
 import io.micronaut.security.annotation.Secured;
 import io.micronaut.security.rules.SecurityRule;
-import io.micronaut.views.View;
 
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * The pages render the same for every request, so each is rendered once per locale (at
+ * startup for the default one) and served from {@link RenderedViewCache}.
+ */
 @Controller
 public class ViewController {
 
+    static final String HTML_UTF8 = MediaType.TEXT_HTML + ";charset=utf-8";
+
+    private final RenderedViewCache views;
+    private final HttpLocaleResolver localeResolver;
+    private final Map<String, Object> loginModel = new HashMap<>();
+    private final Map<String, Object> registerModel = new HashMap<>();
+    private final Map<String, Object> panelModel = new HashMap<>();
+
+    public ViewController(RenderedViewCache views, HttpLocaleResolver localeResolver, StaticAssetCatalog assets) {
+        this.views = views;
+        this.localeResolver = localeResolver;
+        loginModel.put("title", "Iniciar Sesión - BuildBag");
+        registerModel.put("title", "Registrarse - BuildBag");
+        panelModel.put("title", "Panel de Configuración - BuildBag");
+        panelModel.put("assets", assets.urls());
+    }
+
+    @EventListener
+    public void warmUp(StartupEvent event) {
+        // Same locale as a request without Accept-Language
+        HttpRequest<?> plain = HttpRequest.GET("/");
+        views.render("login", loginModel, localeResolver.resolveOrDefault(plain), null);
+        views.render("register", registerModel, localeResolver.resolveOrDefault(plain), null);
+        views.render("config", panelModel, localeResolver.resolveOrDefault(plain), null);
+    }
+
     @Get("/login")
     @Secured(SecurityRule.IS_ANONYMOUS)
-    @View("login")
-    public Map<String, Object> login() {
-        Map<String, Object> model = new HashMap<>();
-        model.put("title", "Iniciar Sesión - BuildBag");
-        return model;
+    public HttpResponse<byte[]> login(HttpRequest<?> request) {
+        return page("login", loginModel, request);
     }
 
     @Get("/register")
     @Secured(SecurityRule.IS_ANONYMOUS)
-    @View("register")
-    public Map<String, Object> register() {
-        Map<String, Object> model = new HashMap<>();
-        model.put("title", "Registrarse - BuildBag");
-        return model;
+    public HttpResponse<byte[]> register(HttpRequest<?> request) {
+        return page("register", registerModel, request);
     }
 
     @Get("/")
     @Secured(SecurityRule.IS_ANONYMOUS)
-    @View("login")
-    public Map<String, Object> index() {
-        Map<String, Object> model = new HashMap<>();
-        model.put("title", "Iniciar Sesión - BuildBag");
-        return model;
+    public HttpResponse<byte[]> index(HttpRequest<?> request) {
+        return page("login", loginModel, request);
     }
 
     @Get("/panel")
     @Secured(SecurityRule.IS_ANONYMOUS)
-    @View("config")
-    public Map<String, Object> panel() {
-        Map<String, Object> model = new HashMap<>();
-        model.put("title", "Panel de Configuración - BuildBag");
-        return model;
+    public HttpResponse<byte[]> panel(HttpRequest<?> request) {
+        return page("config", panelModel, request);
     }
-}
 
+    private HttpResponse<byte[]> page(String view, Map<String, Object> model, HttpRequest<?> request) {
+        byte[] html = views.render(view, model, localeResolver.resolveOrDefault(request), request);
+        return HttpResponse.ok(html).contentType(HTML_UTF8);
+    }
+}
@@ -0,0 +1,260 @@
+package com.ixlab.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ixlab.dto.BulkImportResult;
+import com.ixlab.dto.ConfigurationDto;
+import com.ixlab.dto.SaveConfigurationRequest;
+import com.ixlab.properties.PropertiesJsonConverter;
+import com.ixlab.security.AuthenticatedUserResolver;
+import com.ixlab.service.ConfigurationService;
+import com.ixlab.service.WorkspaceExporter;
+import com.ixlab.service.WorkspaceImporter;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.*;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.annotation.ExecuteOn;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.inject.Named;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+@Controller("/api")
+@Tag(name = "Workspace", description = "API for exporting and restoring a whole workspace")
+@SecurityRequirement(name = "bearerAuth")
+public class WorkspaceController {
+
+    static final String ZIP = "application/zip";
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkspaceController.class);
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final WorkspaceExporter exporter;
+    private final WorkspaceImporter importer;
+    private final PropertiesJsonConverter propertiesConverter;
+    private final ConfigurationService configService;
+    private final ObjectMapper objectMapper;
+    private final AuthenticatedUserResolver userResolver;
+    private final ExecutorService ioExecutor;
+
+    public WorkspaceController(WorkspaceExporter exporter,
+                               WorkspaceImporter importer,
+                               PropertiesJsonConverter propertiesConverter,
+                               ConfigurationService configService,
+                               ObjectMapper objectMapper,
+                               AuthenticatedUserResolver userResolver,
+                               @Named(TaskExecutors.IO) ExecutorService ioExecutor) {
+        this.exporter = exporter;
+        this.importer = importer;
+        this.propertiesConverter = propertiesConverter;
+        this.configService = configService;
+        this.objectMapper = objectMapper;
+        this.userResolver = userResolver;
+        this.ioExecutor = ioExecutor;
+    }
+
+    @Get(value = "/export", produces = {ZIP, ConfigController.NDJSON})
+    @Operation(summary = "Download all categories and configurations as a ZIP (default) or NDJSON archive",
+               description = "The archive is written while it is read from the database, so memory use does not "
+                   + "depend on the size of the workspace. ZIP archives also contain the rendered .properties files.")
+    @ApiResponse(responseCode = "200", description = "Workspace archive")
+    @ApiResponse(responseCode = "400", description = "Unknown format")
+    @ApiResponse(responseCode = "401", description = "Unauthorized")
+    public HttpResponse<Flux<byte[]>> export(@Nullable @QueryValue String format) {
+        Optional<Long> userId = userResolver.currentUserId();
+        if (!userId.isPresent()) return HttpResponse.unauthorized();
+        
+        WorkspaceExporter.Format exportFormat;
+        try {
+            exportFormat = format == null ? WorkspaceExporter.Format.ZIP : WorkspaceExporter.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return HttpResponse.badRequest();
+        }
+        
+        boolean zip = exportFormat == WorkspaceExporter.Format.ZIP;
+        return HttpResponse.ok(stream(userId.get(), exportFormat))
+            .contentType(zip ? ZIP : ConfigController.NDJSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"buildbag-export." + (zip ? "zip" : "ndjson") + "\"");
+    }
+
+    @Post(value = "/import", consumes = {ZIP, ConfigController.NDJSON}, produces = MediaType.APPLICATION_JSON)
+    @ExecuteOn(TaskExecutors.IO)
+    @Operation(summary = "Restore an archive produced by GET /api/export",
+               description = "Categories and configurations are added to the current workspace; existing ones are kept.")
+    @ApiResponse(responseCode = "200", description = "Per-configuration results")
+    @ApiResponse(responseCode = "401", description = "Unauthorized")
+    public HttpResponse<BulkImportResult> importWorkspace(HttpRequest<?> request, @Body InputStream body) {
+        Optional<Long> userId = userResolver.currentUserId();
+        if (!userId.isPresent()) return HttpResponse.unauthorized();
+        
+        boolean ndjson = request.getContentType()
+            .map(type -> ConfigController.NDJSON.equals(type.getName()))
+            .orElse(false);
+        return HttpResponse.ok(ndjson
+            ? importer.importNdjson(body, userId.get())
+            : importer.importZip(body, userId.get()));
+    }
+
+    @Post(value = "/import/properties", consumes = {MediaType.TEXT_PLAIN, MediaType.APPLICATION_OCTET_STREAM},
+          produces = MediaType.APPLICATION_JSON)
+    @ExecuteOn(TaskExecutors.IO)
+    @Operation(summary = "Convert a .properties file into BuildBag configuration JSON",
+               description = "The file is parsed line by line as it is uploaded. Without categoryId or categoryName the "
+                   + "JSON is returned; with either, it is also saved as a new configuration and that is returned.")
+    @ApiResponse(responseCode = "200", description = "Converted JSON, or the saved configuration")
+    @ApiResponse(responseCode = "400", description = "Malformed file or unknown charset")
+    @ApiResponse(responseCode = "401", description = "Unauthorized")
+    public HttpResponse<?> importProperties(@Body InputStream body,
+                                            @Nullable @QueryValue String fileName,
+                                            @Nullable @QueryValue String domainKeyPattern,
+                                            @Nullable @QueryValue String charset,
+                                            @Nullable @QueryValue Long categoryId,
+                                            @Nullable @QueryValue String categoryName,
+                                            @Nullable @QueryValue String subcategory) {
+        Optional<Long> userId = userResolver.currentUserId();
+        if (!userId.isPresent()) return HttpResponse.unauthorized();
+        
+        String name = fileName == null || fileName.trim().isEmpty() ? "config.properties" : fileName.trim();
+        ObjectNode json;
+        try {
+            Charset encoding = charset == null ? StandardCharsets.UTF_8 : Charset.forName(charset);
+            json = propertiesConverter.convert(new InputStreamReader(body, encoding), name, domainKeyPattern);
+        } catch (IOException | IllegalArgumentException e) {
+            return HttpResponse.badRequest(Collections.singletonMap("error", e.getMessage()));
+        }
+        if (categoryId == null && (categoryName == null || categoryName.trim().isEmpty())) {
+            return HttpResponse.ok(json);
+        }
+        
+        SaveConfigurationRequest request = new SaveConfigurationRequest();
+        request.setName(json.path("projectName").asText(name));
+        request.setSubcategory(subcategory);
+        request.setCategoryId(categoryId);
+        request.setCategoryName(categoryName);
+        try {
+            request.setJson(objectMapper.writeValueAsString(json));
+            ConfigurationDto dto = configService.saveConfiguration(request, userId.get());
+            return HttpResponse.ok(dto);
+        } catch (IOException | RuntimeException e) {
+            return HttpResponse.badRequest(Collections.singletonMap("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Runs the export on an IO thread, writing into chunks that are only emitted as the
+     * response requests them, so the producer runs as fast as the client downloads and never
+     * blocks the event loop. A failed export ends the body with an error, so a truncated
+     * archive is not delivered as complete.
+     */
+    private Flux<byte[]> stream(Long userId, WorkspaceExporter.Format format) {
+        return Flux.create(sink -> {
+            ChunkedOutput out = new ChunkedOutput(sink);
+            sink.onRequest(out::request);
+            sink.onCancel(out::cancel);
+            ioExecutor.execute(() -> {
+                try {
+                    exporter.export(userId, format, out);
+                    out.close();
+                    sink.complete();
+                } catch (IOException | RuntimeException e) {
+                    if (!out.cancelled) {
+                        LOG.warn("Export for user {} failed: {}", userId, e.getMessage());
+                    }
+                    sink.error(e);
+                }
+            });
+        });
+    }
+
+    /**
+     * Output stream that hands its bytes to a sink in chunks of {@link #CHUNK_SIZE}, blocking
+     * the writer until the subscriber has requested the next chunk.
+     */
+    private static final class ChunkedOutput extends OutputStream {
+        private final FluxSink<byte[]> sink;
+        private byte[] buffer = new byte[CHUNK_SIZE];
+        private int count;
+        private long requested;
+        volatile boolean cancelled;
+
+        ChunkedOutput(FluxSink<byte[]> sink) {
+            this.sink = sink;
+        }
+
+        synchronized void request(long n) {
+            requested = requested + n < 0 ? Long.MAX_VALUE : requested + n;
+            notifyAll();
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            notifyAll();
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (count == buffer.length) emit();
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (count == buffer.length) emit();
+                int n = Math.min(len, buffer.length - count);
+                System.arraycopy(b, off, buffer, count, n);
+                count += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (count > 0) emit();
+        }
+
+        private void emit() throws IOException {
+            synchronized (this) {
+                try {
+                    while (requested == 0 && !cancelled) {
+                        wait();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Export interrupted");
+                }
+                if (cancelled) {
+                    throw new IOException("Download cancelled");
+                }
+                if (requested != Long.MAX_VALUE) requested--;
+            }
+            byte[] chunk = count == buffer.length ? buffer : Arrays.copyOf(buffer, count);
+            sink.next(chunk);
+            buffer = new byte[CHUNK_SIZE];
+            count = 0;
+        }
+    }
+}
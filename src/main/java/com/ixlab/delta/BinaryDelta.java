@@ -0,0 +1,230 @@
+package com.ixlab.delta;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+/**
+ * Copy/insert delta between two byte arrays. The base is indexed in fixed blocks and the
+ * target is scanned with a rolling hash; matches are extended in both directions and
+ * emitted as {@code COPY(offset, length)}, everything else as {@code INSERT(bytes)}.
+ * <p>
+ * Format: {@code varint baseLength, varint targetLength, op*} where an op is
+ * {@code 0x00 varint offset varint length} or {@code 0x01 varint length bytes}.
+ * The size of a delta grows with the size of the change, not with the size of the input.
+ * <p>
+ * At most {@value #MAX_CANDIDATES} base blocks with the same hash are tried per position, so
+ * repetitive content, where every block hashes alike, stays linear instead of quadratic.
+ */
+public final class BinaryDelta {
+
+    static final int BLOCK = 16;
+    static final int MAX_CANDIDATES = 32;
+
+    private static final byte COPY = 0x00;
+    private static final byte INSERT = 0x01;
+    private static final int PRIME = 31;
+
+    private BinaryDelta() {}
+
+    public static byte[] encode(byte[] base, byte[] target) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        writeVarint(out, base.length);
+        writeVarint(out, target.length);
+        if (base.length < BLOCK || target.length < BLOCK) {
+            insert(out, target, 0, target.length);
+            return out.toByteArray();
+        }
+
+        BlockIndex index = new BlockIndex(base);
+        int pow = 1;
+        for (int i = 1; i < BLOCK; i++) {
+            pow *= PRIME;
+        }
+
+        int pos = 0;
+        int pending = 0;
+        int hash = hash(target, 0);
+        while (pos + BLOCK <= target.length) {
+            int bestBase = -1;
+            int bestTarget = -1;
+            int bestLength = 0;
+            int tried = 0;
+            for (int candidate = index.first(hash); candidate >= 0 && tried < MAX_CANDIDATES;
+                    candidate = index.next(candidate)) {
+                tried++;
+                if (!regionMatches(base, candidate, target, pos, BLOCK)) {
+                    continue;
+                }
+                int back = 0;
+                while (back < pos - pending && candidate - back > 0
+                        && base[candidate - back - 1] == target[pos - back - 1]) {
+                    back++;
+                }
+                int forward = BLOCK;
+                while (candidate + forward < base.length && pos + forward < target.length
+                        && base[candidate + forward] == target[pos + forward]) {
+                    forward++;
+                }
+                if (back + forward > bestLength) {
+                    bestBase = candidate - back;
+                    bestTarget = pos - back;
+                    bestLength = back + forward;
+                }
+                if (candidate + forward == base.length || pos + forward == target.length) {
+                    // Runs to the end of the base or the target: take it rather than walk the rest of the chain
+                    break;
+                }
+            }
+
+            if (bestLength > 0) {
+                insert(out, target, pending, bestTarget - pending);
+                out.write(COPY);
+                writeVarint(out, bestBase);
+                writeVarint(out, bestLength);
+                pos = bestTarget + bestLength;
+                pending = pos;
+                if (pos + BLOCK <= target.length) {
+                    hash = hash(target, pos);
+                }
+            } else if (pos + BLOCK < target.length) {
+                hash = (hash - target[pos] * pow) * PRIME + target[pos + BLOCK];
+                pos++;
+            } else {
+                break;
+            }
+        }
+        insert(out, target, pending, target.length - pending);
+        return out.toByteArray();
+    }
+
+    public static byte[] apply(byte[] base, byte[] delta) {
+        Reader in = new Reader(delta);
+        int baseLength = in.varint();
+        if (baseLength != base.length) {
+            throw new IllegalArgumentException("Delta expects a base of " + baseLength + " bytes, got " + base.length);
+        }
+        byte[] target = new byte[in.varint()];
+        int written = 0;
+        while (in.hasMore()) {
+            byte op = in.next();
+            if (op == COPY) {
+                int offset = in.varint();
+                int length = in.varint();
+                System.arraycopy(base, offset, target, written, length);
+                written += length;
+            } else if (op == INSERT) {
+                int length = in.varint();
+                in.copy(target, written, length);
+                written += length;
+            } else {
+                throw new IllegalArgumentException("Unknown delta op: " + op);
+            }
+        }
+        if (written != target.length) {
+            throw new IllegalArgumentException("Delta produced " + written + " of " + target.length + " bytes");
+        }
+        return target;
+    }
+
+    private static void insert(ByteArrayOutputStream out, byte[] data, int offset, int length) {
+        if (length <= 0) return;
+        out.write(INSERT);
+        writeVarint(out, length);
+        out.write(data, offset, length);
+    }
+
+    private static int hash(byte[] data, int offset) {
+        int h = 0;
+        for (int i = offset; i < offset + BLOCK; i++) {
+            h = h * PRIME + data[i];
+        }
+        return h;
+    }
+
+    private static boolean regionMatches(byte[] a, int aOffset, byte[] b, int bOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            if (a[aOffset + i] != b[bOffset + i]) return false;
+        }
+        return true;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7f) != 0) {
+            out.write((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    /**
+     * Open-addressed hash table from block hash to the offsets of the base blocks with that
+     * hash, chained through {@code next}.
+     */
+    private static final class BlockIndex {
+        private final int[] heads;
+        private final int[] chain;
+        private final int mask;
+
+        BlockIndex(byte[] base) {
+            int blocks = base.length / BLOCK;
+            int size = Integer.highestOneBit(Math.max(blocks, 1) * 2 - 1) << 1;
+            heads = new int[size];
+            Arrays.fill(heads, -1);
+            chain = new int[blocks];
+            mask = size - 1;
+            for (int b = blocks - 1; b >= 0; b--) {
+                int slot = mix(hash(base, b * BLOCK)) & mask;
+                chain[b] = heads[slot];
+                heads[slot] = b;
+            }
+        }
+
+        int first(int hash) {
+            int block = heads[mix(hash) & mask];
+            return block < 0 ? -1 : block * BLOCK;
+        }
+
+        int next(int offset) {
+            int block = chain[offset / BLOCK];
+            return block < 0 ? -1 : block * BLOCK;
+        }
+
+        private static int mix(int h) {
+            return h ^ (h >>> 16);
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int pos;
+
+        Reader(byte[] data) {
+            this.data = data;
+        }
+
+        boolean hasMore() {
+            return pos < data.length;
+        }
+
+        byte next() {
+            return data[pos++];
+        }
+
+        int varint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                value |= (b & 0x7f) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+        void copy(byte[] target, int offset, int length) {
+            System.arraycopy(data, pos, target, offset, length);
+            pos += length;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.ixlab.delta;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ixlab.dto.ConfigurationChange;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Structural diff of two JSON documents. Objects are compared by key and arrays by index;
+ * a subtree that only exists on one side is reported once at its root.
+ */
+public final class JsonDiff {
+
+    private JsonDiff() {}
+
+    public static List<ConfigurationChange> diff(JsonNode before, JsonNode after) {
+        List<ConfigurationChange> changes = new ArrayList<>();
+        diff("", before, after, changes);
+        return changes;
+    }
+
+    private static void diff(String path, JsonNode before, JsonNode after, List<ConfigurationChange> changes) {
+        if (before.isObject() && after.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = before.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                String child = path + "/" + escape(field.getKey());
+                JsonNode other = after.get(field.getKey());
+                if (other == null) {
+                    changes.add(new ConfigurationChange(child, ConfigurationChange.REMOVED, field.getValue(), null));
+                } else {
+                    diff(child, field.getValue(), other, changes);
+                }
+            }
+            Iterator<Map.Entry<String, JsonNode>> added = after.fields();
+            while (added.hasNext()) {
+                Map.Entry<String, JsonNode> field = added.next();
+                if (!before.has(field.getKey())) {
+                    changes.add(new ConfigurationChange(path + "/" + escape(field.getKey()),
+                        ConfigurationChange.ADDED, null, field.getValue()));
+                }
+            }
+        } else if (before.isArray() && after.isArray()) {
+            int common = Math.min(before.size(), after.size());
+            for (int i = 0; i < common; i++) {
+                diff(path + "/" + i, before.get(i), after.get(i), changes);
+            }
+            for (int i = common; i < before.size(); i++) {
+                changes.add(new ConfigurationChange(path + "/" + i, ConfigurationChange.REMOVED, before.get(i), null));
+            }
+            for (int i = common; i < after.size(); i++) {
+                changes.add(new ConfigurationChange(path + "/" + i, ConfigurationChange.ADDED, null, after.get(i)));
+            }
+        } else if (!before.equals(after)) {
+            changes.add(new ConfigurationChange(path, ConfigurationChange.CHANGED, before, after));
+        }
+    }
+
+    private static String escape(String token) {
+        return token.replace("~", "~0").replace("/", "~1");
+    }
+}
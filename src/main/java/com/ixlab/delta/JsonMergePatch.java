@@ -0,0 +1,41 @@
+package com.ixlab.delta;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * JSON Merge Patch (RFC 7396). Members of a patch object replace the same members of the
+ * target, recursively for nested objects; {@code null} removes a member, and anything that
+ * is not an object (arrays included) replaces the target value as a whole.
+ */
+public final class JsonMergePatch {
+
+    private JsonMergePatch() {}
+
+    /**
+     * Applies {@code patch} to {@code target}. The target is modified in place when both are
+     * objects; use the returned node either way.
+     */
+    public static JsonNode apply(JsonNode target, JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+        ObjectNode result = target != null && target.isObject()
+            ? (ObjectNode) target
+            : JsonNodeFactory.instance.objectNode();
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (field.getValue().isNull()) {
+                result.remove(field.getKey());
+            } else {
+                result.set(field.getKey(), apply(result.get(field.getKey()), field.getValue()));
+            }
+        }
+        return result;
+    }
+}
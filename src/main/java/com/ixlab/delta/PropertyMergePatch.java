@@ -0,0 +1,131 @@
+package com.ixlab.delta;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON merge patch for configuration content. {@code globalProperties} and
+ * {@code domainProperties} are arrays of categories, each with a {@code properties} array,
+ * which RFC 7396 could only replace whole. Here they can also be patched with an object
+ * keyed by property key: each member is merged into the property with that key, whatever
+ * its category, and {@code null} removes it. A {@code category} member places the property
+ * in that category (created if missing), moving it if needed; a new property without one
+ * goes to the first category. Everything else, including an array for those members, is
+ * plain {@link JsonMergePatch}, so patches of different properties commute.
+ */
+public final class PropertyMergePatch {
+
+    public static final List<String> SECTIONS = Arrays.asList("globalProperties", "domainProperties");
+
+    private static final String CATEGORY = "category";
+    private static final String PROPERTIES = "properties";
+    private static final String KEY = "key";
+
+    private PropertyMergePatch() {}
+
+    /**
+     * Applies {@code patch} to {@code target}, modifying the target in place when both are
+     * objects; use the returned node either way.
+     *
+     * @throws IllegalArgumentException if a property is patched with something other than an object or null,
+     *         or a new property has no category to go to
+     */
+    public static JsonNode apply(JsonNode target, JsonNode patch) {
+        if (target == null || !target.isObject() || !patch.isObject()) {
+            return JsonMergePatch.apply(target, patch);
+        }
+        ObjectNode rest = JsonNodeFactory.instance.objectNode();
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode section = target.get(field.getKey());
+            if (SECTIONS.contains(field.getKey()) && field.getValue().isObject() && section != null && section.isArray()) {
+                applyByKey((ArrayNode) section, field.getValue());
+            } else {
+                rest.set(field.getKey(), field.getValue());
+            }
+        }
+        return JsonMergePatch.apply(target, rest);
+    }
+
+    private static void applyByKey(ArrayNode categories, JsonNode patch) {
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String key = field.getKey();
+            JsonNode value = field.getValue();
+            if (!value.isNull() && !value.isObject()) {
+                throw new IllegalArgumentException("Patch of property " + key + " must be an object or null");
+            }
+
+            ArrayNode current = null;
+            int index = -1;
+            for (JsonNode category : categories) {
+                JsonNode properties = category.get(PROPERTIES);
+                if (properties == null || !properties.isArray()) continue;
+                index = indexOf((ArrayNode) properties, key);
+                if (index >= 0) {
+                    current = (ArrayNode) properties;
+                    break;
+                }
+            }
+
+            if (value.isNull()) {
+                if (current != null) current.remove(index);
+                continue;
+            }
+            ObjectNode propertyPatch = ((ObjectNode) value).deepCopy();
+            JsonNode categoryName = propertyPatch.remove(CATEGORY);
+            ObjectNode property = current != null
+                ? (ObjectNode) current.get(index)
+                : JsonNodeFactory.instance.objectNode().put(KEY, key);
+            JsonMergePatch.apply(property, propertyPatch);
+
+            ArrayNode destination = categoryName != null && categoryName.isTextual()
+                ? properties(categories, categoryName.asText())
+                : current != null ? current : firstProperties(categories, key);
+            if (destination != current) {
+                if (current != null) current.remove(index);
+                destination.add(property);
+            }
+        }
+    }
+
+    private static int indexOf(ArrayNode properties, String key) {
+        for (int i = 0; i < properties.size(); i++) {
+            if (key.equals(properties.get(i).path(KEY).asText(null)) && properties.get(i).isObject()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static ArrayNode properties(ArrayNode categories, String name) {
+        for (JsonNode category : categories) {
+            if (category.isObject() && name.equals(category.path(CATEGORY).asText(null))) {
+                JsonNode properties = category.get(PROPERTIES);
+                return properties != null && properties.isArray()
+                    ? (ArrayNode) properties
+                    : ((ObjectNode) category).putArray(PROPERTIES);
+            }
+        }
+        ObjectNode category = categories.addObject();
+        category.put(CATEGORY, name);
+        return category.putArray(PROPERTIES);
+    }
+
+    private static ArrayNode firstProperties(ArrayNode categories, String key) {
+        for (JsonNode category : categories) {
+            JsonNode properties = category.get(PROPERTIES);
+            if (properties != null && properties.isArray()) return (ArrayNode) properties;
+        }
+        throw new IllegalArgumentException("No category to add property " + key + " to; name one in its category member");
+    }
+}
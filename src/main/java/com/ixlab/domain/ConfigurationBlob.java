@@ -0,0 +1,42 @@
+package com.ixlab.domain;
+
+import javax.persistence.*;
+import java.io.Serializable;
+
+/**
+ * Content-addressed payload shared by every {@link ConfigurationFile} whose content has the
+ * same SHA-256 hash. {@code refCount} tracks how many configurations point at it; the row is
+ * removed when it drops to zero.
+ */
+@Entity
+@Table(name = "configuration_blobs")
+public class ConfigurationBlob implements Serializable {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] content;
+
+    @Column(name = "ref_count", nullable = false)
+    private long refCount;
+
+    public ConfigurationBlob() {}
+
+    public ConfigurationBlob(String hash, byte[] content) {
+        this.hash = hash;
+        this.content = content;
+        this.refCount = 1;
+    }
+
+    public String getHash() { return hash; }
+    public void setHash(String hash) { this.hash = hash; }
+
+    public byte[] getContent() { return content; }
+    public void setContent(byte[] content) { this.content = content; }
+
+    public long getRefCount() { return refCount; }
+    public void setRefCount(long refCount) { this.refCount = refCount; }
+}
@@ -4,8 +4,17 @@ import javax.persistence.*;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 
+/**
+ * Configuration metadata. The JSON payload lives in the {@link ConfigurationBlob}
+ * identified by {@code contentHash}. Every update increments {@code version}, and an update
+ * made from a stale copy fails instead of overwriting the newer one.
+ */
 @Entity
-@Table(name = "configuration_files")
+@Table(name = "configuration_files", indexes = {
+    @Index(name = "idx_configuration_files_owner_updated", columnList = "user_id, updated_at, id"),
+    @Index(name = "idx_configuration_files_owner_name", columnList = "user_id, name, id"),
+    @Index(name = "idx_configuration_files_owner_category", columnList = "user_id, category_id, updated_at, id")
+})
 public class ConfigurationFile implements Serializable {
 
     @Id
@@ -18,9 +27,8 @@ public class ConfigurationFile implements Serializable {
     @Column(name = "subcategory")
     private String subcategory;
 
-    @Lob
-    @Column(nullable = false)
-    private byte[] content;
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
@@ -36,6 +44,10 @@ public class ConfigurationFile implements Serializable {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(name = "version")
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -58,8 +70,8 @@ public class ConfigurationFile implements Serializable {
     public String getSubcategory() { return subcategory; }
     public void setSubcategory(String subcategory) { this.subcategory = subcategory; }
 
-    public byte[] getContent() { return content; }
-    public void setContent(byte[] content) { this.content = content; }
+    public String getContentHash() { return contentHash; }
+    public void setContentHash(String contentHash) { this.contentHash = contentHash; }
 
     public User getOwner() { return owner; }
     public void setOwner(User owner) { this.owner = owner; }
@@ -72,4 +84,7 @@ public class ConfigurationFile implements Serializable {
 
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
@@ -0,0 +1,79 @@
+package com.ixlab.domain;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Immutable version of a {@link ConfigurationFile}'s content. A revision either holds a
+ * full snapshot ({@code snapshotRevision == revision}, framed by the content codecs) or a
+ * binary delta against the previous revision; reconstruction starts at
+ * {@code snapshotRevision} and applies the deltas in order.
+ */
+@Entity
+@Table(name = "configuration_revisions", uniqueConstraints =
+    @UniqueConstraint(name = "uk_configuration_revisions_config_revision", columnNames = {"configuration_id", "revision"}))
+public class ConfigurationRevision implements Serializable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "configuration_revisions_seq")
+    @SequenceGenerator(name = "configuration_revisions_seq", sequenceName = "configuration_revisions_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "configuration_id", nullable = false)
+    private Long configurationId;
+
+    @Column(nullable = false)
+    private Integer revision;
+
+    @Column(name = "snapshot_revision", nullable = false)
+    private Integer snapshotRevision;
+
+    @Column(name = "content_hash", length = 64, nullable = false)
+    private String contentHash;
+
+    @Column(name = "content_size", nullable = false)
+    private Integer contentSize;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] data;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    public ConfigurationRevision() {}
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getConfigurationId() { return configurationId; }
+    public void setConfigurationId(Long configurationId) { this.configurationId = configurationId; }
+
+    public Integer getRevision() { return revision; }
+    public void setRevision(Integer revision) { this.revision = revision; }
+
+    public Integer getSnapshotRevision() { return snapshotRevision; }
+    public void setSnapshotRevision(Integer snapshotRevision) { this.snapshotRevision = snapshotRevision; }
+
+    public String getContentHash() { return contentHash; }
+    public void setContentHash(String contentHash) { this.contentHash = contentHash; }
+
+    public Integer getContentSize() { return contentSize; }
+    public void setContentSize(Integer contentSize) { this.contentSize = contentSize; }
+
+    public byte[] getData() { return data; }
+    public void setData(byte[] data) { this.data = data; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public boolean isSnapshot() {
+        return revision != null && revision.equals(snapshotRevision);
+    }
+}
@@ -0,0 +1,73 @@
+package com.ixlab.domain;
+
+import javax.persistence.*;
+import java.io.Serializable;
+
+/**
+ * One property of a configuration in the search index. {@code keyNorm} and
+ * {@code valueNorm} are the lower-cased, length-capped forms used for lookups;
+ * the individual words of the value are in {@link ConfigurationTermToken}.
+ */
+@Entity
+@Table(name = "configuration_terms", indexes = {
+    @Index(name = "idx_configuration_terms_owner_key", columnList = "owner_id, key_norm"),
+    @Index(name = "idx_configuration_terms_owner_value", columnList = "owner_id, value_norm"),
+    @Index(name = "idx_configuration_terms_configuration", columnList = "configuration_id")
+})
+public class ConfigurationTerm implements Serializable {
+
+    public static final int MAX_NORM_LENGTH = 255;
+    public static final int MAX_VALUE_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "configuration_terms_seq")
+    @SequenceGenerator(name = "configuration_terms_seq", sequenceName = "configuration_terms_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "configuration_id", nullable = false)
+    private Long configurationId;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Column(nullable = false, length = 500)
+    private String path;
+
+    @Column(name = "property_key", nullable = false, length = MAX_NORM_LENGTH)
+    private String propertyKey;
+
+    @Column(name = "property_value", length = MAX_VALUE_LENGTH)
+    private String propertyValue;
+
+    @Column(name = "key_norm", nullable = false, length = MAX_NORM_LENGTH)
+    private String keyNorm;
+
+    @Column(name = "value_norm", length = MAX_NORM_LENGTH)
+    private String valueNorm;
+
+    public ConfigurationTerm() {}
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getConfigurationId() { return configurationId; }
+    public void setConfigurationId(Long configurationId) { this.configurationId = configurationId; }
+
+    public Long getOwnerId() { return ownerId; }
+    public void setOwnerId(Long ownerId) { this.ownerId = ownerId; }
+
+    public String getPath() { return path; }
+    public void setPath(String path) { this.path = path; }
+
+    public String getPropertyKey() { return propertyKey; }
+    public void setPropertyKey(String propertyKey) { this.propertyKey = propertyKey; }
+
+    public String getPropertyValue() { return propertyValue; }
+    public void setPropertyValue(String propertyValue) { this.propertyValue = propertyValue; }
+
+    public String getKeyNorm() { return keyNorm; }
+    public void setKeyNorm(String keyNorm) { this.keyNorm = keyNorm; }
+
+    public String getValueNorm() { return valueNorm; }
+    public void setValueNorm(String valueNorm) { this.valueNorm = valueNorm; }
+}
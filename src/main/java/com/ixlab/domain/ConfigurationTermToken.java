@@ -0,0 +1,57 @@
+package com.ixlab.domain;
+
+import javax.persistence.*;
+import java.io.Serializable;
+
+/**
+ * A word of an indexed property value (e.g. the host of a URL), pointing back at its
+ * {@link ConfigurationTerm}.
+ */
+@Entity
+@Table(name = "configuration_term_tokens", indexes = {
+    @Index(name = "idx_configuration_term_tokens_owner_token", columnList = "owner_id, token"),
+    @Index(name = "idx_configuration_term_tokens_configuration", columnList = "configuration_id")
+})
+public class ConfigurationTermToken implements Serializable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "configuration_term_tokens_seq")
+    @SequenceGenerator(name = "configuration_term_tokens_seq", sequenceName = "configuration_term_tokens_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "term_id", nullable = false)
+    private Long termId;
+
+    @Column(name = "configuration_id", nullable = false)
+    private Long configurationId;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Column(nullable = false, length = 100)
+    private String token;
+
+    public ConfigurationTermToken() {}
+
+    public ConfigurationTermToken(Long termId, Long configurationId, Long ownerId, String token) {
+        this.termId = termId;
+        this.configurationId = configurationId;
+        this.ownerId = ownerId;
+        this.token = token;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getTermId() { return termId; }
+    public void setTermId(Long termId) { this.termId = termId; }
+
+    public Long getConfigurationId() { return configurationId; }
+    public void setConfigurationId(Long configurationId) { this.configurationId = configurationId; }
+
+    public Long getOwnerId() { return ownerId; }
+    public void setOwnerId(Long ownerId) { this.ownerId = ownerId; }
+
+    public String getToken() { return token; }
+    public void setToken(String token) { this.token = token; }
+}
@@ -0,0 +1,31 @@
+package com.ixlab.dto;
+
+import java.util.List;
+
+public class BulkImportResult {
+    private int created;
+    private int failed;
+    private List<BulkItemResult> items;
+
+    public BulkImportResult() {}
+
+    public BulkImportResult(List<BulkItemResult> items) {
+        this.items = items;
+        for (BulkItemResult item : items) {
+            if (BulkItemResult.CREATED.equals(item.getStatus())) {
+                created++;
+            } else {
+                failed++;
+            }
+        }
+    }
+
+    public int getCreated() { return created; }
+    public void setCreated(int created) { this.created = created; }
+
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+
+    public List<BulkItemResult> getItems() { return items; }
+    public void setItems(List<BulkItemResult> items) { this.items = items; }
+}
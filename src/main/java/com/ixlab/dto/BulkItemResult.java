@@ -0,0 +1,41 @@
+package com.ixlab.dto;
+
+public class BulkItemResult {
+    public static final String CREATED = "created";
+    public static final String FAILED = "failed";
+
+    private int index;
+    private Long id;
+    private String status;
+    private String error;
+
+    public BulkItemResult() {}
+
+    public static BulkItemResult created(int index, Long id) {
+        BulkItemResult result = new BulkItemResult();
+        result.index = index;
+        result.id = id;
+        result.status = CREATED;
+        return result;
+    }
+
+    public static BulkItemResult failed(int index, String error) {
+        BulkItemResult result = new BulkItemResult();
+        result.index = index;
+        result.status = FAILED;
+        result.error = error;
+        return result;
+    }
+
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
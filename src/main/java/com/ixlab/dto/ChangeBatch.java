@@ -0,0 +1,31 @@
+package com.ixlab.dto;
+
+import java.util.List;
+
+/**
+ * Answer to a change feed long poll. {@code version} is the cursor for the next poll;
+ * {@code reset} means changes were missed (the cursor is too old or from another server
+ * run) and the client must reload its configurations before polling again.
+ */
+public class ChangeBatch {
+    private long version;
+    private boolean reset;
+    private List<ConfigurationEvent> events;
+
+    public ChangeBatch() {}
+
+    public ChangeBatch(long version, boolean reset, List<ConfigurationEvent> events) {
+        this.version = version;
+        this.reset = reset;
+        this.events = events;
+    }
+
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+
+    public boolean isReset() { return reset; }
+    public void setReset(boolean reset) { this.reset = reset; }
+
+    public List<ConfigurationEvent> getEvents() { return events; }
+    public void setEvents(List<ConfigurationEvent> events) { this.events = events; }
+}
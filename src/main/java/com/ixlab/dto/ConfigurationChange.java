@@ -0,0 +1,38 @@
+package com.ixlab.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * One difference between two revisions of a configuration, addressed by JSON Pointer.
+ */
+public class ConfigurationChange {
+    public static final String ADDED = "added";
+    public static final String REMOVED = "removed";
+    public static final String CHANGED = "changed";
+
+    private String path;
+    private String type;
+    private JsonNode oldValue;
+    private JsonNode newValue;
+
+    public ConfigurationChange() {}
+
+    public ConfigurationChange(String path, String type, JsonNode oldValue, JsonNode newValue) {
+        this.path = path;
+        this.type = type;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+    }
+
+    public String getPath() { return path; }
+    public void setPath(String path) { this.path = path; }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public JsonNode getOldValue() { return oldValue; }
+    public void setOldValue(JsonNode oldValue) { this.oldValue = oldValue; }
+
+    public JsonNode getNewValue() { return newValue; }
+    public void setNewValue(JsonNode newValue) { this.newValue = newValue; }
+}
@@ -9,6 +9,7 @@ public class ConfigurationDto {
     private String contentBase64;
     private String createdAt;
     private String updatedAt;
+    private Long version;
 
     public ConfigurationDto() {}
 
@@ -35,5 +36,8 @@ public class ConfigurationDto {
 
     public String getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(String updatedAt) { this.updatedAt = updatedAt; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
 
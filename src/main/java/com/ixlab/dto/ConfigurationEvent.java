@@ -0,0 +1,69 @@
+package com.ixlab.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * A committed change to a configuration, as pushed to change feed watchers. The version
+ * is assigned by the feed when the transaction commits; a published event has none yet.
+ */
+public class ConfigurationEvent {
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String DELETED = "deleted";
+    /** Synthetic event: changes were missed and the watcher must reload its configurations. */
+    public static final String RESET = "reset";
+
+    private long version;
+    private String type;
+    private Long configurationId;
+    private String name;
+    private Long categoryId;
+    private String subcategory;
+    private String contentHash;
+    private Long ownerId;
+
+    public ConfigurationEvent() {}
+
+    public ConfigurationEvent(String type, Long configurationId, String name, Long categoryId,
+                              String subcategory, String contentHash, Long ownerId) {
+        this.type = type;
+        this.configurationId = configurationId;
+        this.name = name;
+        this.categoryId = categoryId;
+        this.subcategory = subcategory;
+        this.contentHash = contentHash;
+        this.ownerId = ownerId;
+    }
+
+    public ConfigurationEvent withVersion(long version) {
+        ConfigurationEvent event = new ConfigurationEvent(type, configurationId, name, categoryId,
+            subcategory, contentHash, ownerId);
+        event.version = version;
+        return event;
+    }
+
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public Long getConfigurationId() { return configurationId; }
+    public void setConfigurationId(Long configurationId) { this.configurationId = configurationId; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public Long getCategoryId() { return categoryId; }
+    public void setCategoryId(Long categoryId) { this.categoryId = categoryId; }
+
+    public String getSubcategory() { return subcategory; }
+    public void setSubcategory(String subcategory) { this.subcategory = subcategory; }
+
+    public String getContentHash() { return contentHash; }
+    public void setContentHash(String contentHash) { this.contentHash = contentHash; }
+
+    @JsonIgnore
+    public Long getOwnerId() { return ownerId; }
+    public void setOwnerId(Long ownerId) { this.ownerId = ownerId; }
+}
@@ -0,0 +1,34 @@
+package com.ixlab.dto;
+
+/**
+ * Filters, sort and keyset cursor for listing configurations.
+ * A {@code null} limit means no pagination.
+ */
+public class ConfigurationFilter {
+    private Long categoryId;
+    private String subcategory;
+    private String namePrefix;
+    private String sort;
+    private Integer limit;
+    private String cursor;
+
+    public ConfigurationFilter() {}
+
+    public Long getCategoryId() { return categoryId; }
+    public void setCategoryId(Long categoryId) { this.categoryId = categoryId; }
+
+    public String getSubcategory() { return subcategory; }
+    public void setSubcategory(String subcategory) { this.subcategory = subcategory; }
+
+    public String getNamePrefix() { return namePrefix; }
+    public void setNamePrefix(String namePrefix) { this.namePrefix = namePrefix; }
+
+    public String getSort() { return sort; }
+    public void setSort(String sort) { this.sort = sort; }
+
+    public Integer getLimit() { return limit; }
+    public void setLimit(Integer limit) { this.limit = limit; }
+
+    public String getCursor() { return cursor; }
+    public void setCursor(String cursor) { this.cursor = cursor; }
+}
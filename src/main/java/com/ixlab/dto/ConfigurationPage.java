@@ -0,0 +1,21 @@
+package com.ixlab.dto;
+
+import java.util.List;
+
+public class ConfigurationPage {
+    private List<ConfigurationDto> items;
+    private String nextCursor;
+
+    public ConfigurationPage() {}
+
+    public ConfigurationPage(List<ConfigurationDto> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<ConfigurationDto> getItems() { return items; }
+    public void setItems(List<ConfigurationDto> items) { this.items = items; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
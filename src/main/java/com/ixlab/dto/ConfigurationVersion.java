@@ -0,0 +1,30 @@
+package com.ixlab.dto;
+
+import io.micronaut.core.annotation.Introspected;
+
+import java.time.LocalDateTime;
+
+/**
+ * Validators of a configuration (content hash, last update and version), read without the content.
+ */
+@Introspected
+public class ConfigurationVersion {
+    private Long id;
+    private String contentHash;
+    private LocalDateTime updatedAt;
+    private Long version;
+
+    public ConfigurationVersion() {}
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getContentHash() { return contentHash; }
+    public void setContentHash(String contentHash) { this.contentHash = contentHash; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+}
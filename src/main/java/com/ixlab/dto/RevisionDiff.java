@@ -0,0 +1,26 @@
+package com.ixlab.dto;
+
+import java.util.List;
+
+public class RevisionDiff {
+    private Integer from;
+    private Integer to;
+    private List<ConfigurationChange> changes;
+
+    public RevisionDiff() {}
+
+    public RevisionDiff(Integer from, Integer to, List<ConfigurationChange> changes) {
+        this.from = from;
+        this.to = to;
+        this.changes = changes;
+    }
+
+    public Integer getFrom() { return from; }
+    public void setFrom(Integer from) { this.from = from; }
+
+    public Integer getTo() { return to; }
+    public void setTo(Integer to) { this.to = to; }
+
+    public List<ConfigurationChange> getChanges() { return changes; }
+    public void setChanges(List<ConfigurationChange> changes) { this.changes = changes; }
+}
@@ -0,0 +1,30 @@
+package com.ixlab.dto;
+
+public class RevisionDto {
+    private Integer revision;
+    private String contentHash;
+    private Integer contentSize;
+    private boolean snapshot;
+    private String createdAt;
+    private String contentBase64;
+
+    public RevisionDto() {}
+
+    public Integer getRevision() { return revision; }
+    public void setRevision(Integer revision) { this.revision = revision; }
+
+    public String getContentHash() { return contentHash; }
+    public void setContentHash(String contentHash) { this.contentHash = contentHash; }
+
+    public Integer getContentSize() { return contentSize; }
+    public void setContentSize(Integer contentSize) { this.contentSize = contentSize; }
+
+    public boolean isSnapshot() { return snapshot; }
+    public void setSnapshot(boolean snapshot) { this.snapshot = snapshot; }
+
+    public String getCreatedAt() { return createdAt; }
+    public void setCreatedAt(String createdAt) { this.createdAt = createdAt; }
+
+    public String getContentBase64() { return contentBase64; }
+    public void setContentBase64(String contentBase64) { this.contentBase64 = contentBase64; }
+}
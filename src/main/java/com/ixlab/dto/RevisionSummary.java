@@ -0,0 +1,34 @@
+package com.ixlab.dto;
+
+import io.micronaut.core.annotation.Introspected;
+
+import java.time.LocalDateTime;
+
+/**
+ * Metadata-only projection of a revision; the stored delta or snapshot is not read.
+ */
+@Introspected
+public class RevisionSummary {
+    private Integer revision;
+    private Integer snapshotRevision;
+    private String contentHash;
+    private Integer contentSize;
+    private LocalDateTime createdAt;
+
+    public RevisionSummary() {}
+
+    public Integer getRevision() { return revision; }
+    public void setRevision(Integer revision) { this.revision = revision; }
+
+    public Integer getSnapshotRevision() { return snapshotRevision; }
+    public void setSnapshotRevision(Integer snapshotRevision) { this.snapshotRevision = snapshotRevision; }
+
+    public String getContentHash() { return contentHash; }
+    public void setContentHash(String contentHash) { this.contentHash = contentHash; }
+
+    public Integer getContentSize() { return contentSize; }
+    public void setContentSize(Integer contentSize) { this.contentSize = contentSize; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
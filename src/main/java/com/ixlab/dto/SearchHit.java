@@ -0,0 +1,26 @@
+package com.ixlab.dto;
+
+public class SearchHit {
+    private Long configurationId;
+    private String configurationName;
+    private String path;
+    private String key;
+    private String value;
+
+    public SearchHit() {}
+
+    public Long getConfigurationId() { return configurationId; }
+    public void setConfigurationId(Long configurationId) { this.configurationId = configurationId; }
+
+    public String getConfigurationName() { return configurationName; }
+    public void setConfigurationName(String configurationName) { this.configurationName = configurationName; }
+
+    public String getPath() { return path; }
+    public void setPath(String path) { this.path = path; }
+
+    public String getKey() { return key; }
+    public void setKey(String key) { this.key = key; }
+
+    public String getValue() { return value; }
+    public void setValue(String value) { this.value = value; }
+}
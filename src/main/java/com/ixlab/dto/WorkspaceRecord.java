@@ -0,0 +1,56 @@
+package com.ixlab.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One category or configuration of a workspace export. The same shape is used for the
+ * lines of an NDJSON export and the JSON entries of a ZIP export.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WorkspaceRecord {
+    public static final String CATEGORY = "category";
+    public static final String CONFIGURATION = "configuration";
+
+    private String type;
+    private Long id;
+    private String name;
+    private String subcategory;
+    private Long categoryId;
+    private String categoryName;
+    private String createdAt;
+    private String updatedAt;
+    private String json;
+    private String properties;
+
+    public WorkspaceRecord() {}
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getSubcategory() { return subcategory; }
+    public void setSubcategory(String subcategory) { this.subcategory = subcategory; }
+
+    public Long getCategoryId() { return categoryId; }
+    public void setCategoryId(Long categoryId) { this.categoryId = categoryId; }
+
+    public String getCategoryName() { return categoryName; }
+    public void setCategoryName(String categoryName) { this.categoryName = categoryName; }
+
+    public String getCreatedAt() { return createdAt; }
+    public void setCreatedAt(String createdAt) { this.createdAt = createdAt; }
+
+    public String getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(String updatedAt) { this.updatedAt = updatedAt; }
+
+    public String getJson() { return json; }
+    public void setJson(String json) { this.json = json; }
+
+    public String getProperties() { return properties; }
+    public void setProperties(String properties) { this.properties = properties; }
+}
@@ -0,0 +1,53 @@
+package com.ixlab.metrics;
+
+import com.ixlab.cache.WeightedLruCache;
+import com.ixlab.security.AuthenticatedUserResolver;
+import com.ixlab.security.CachingTokenValidator;
+import com.ixlab.service.ConfigurationContentCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.inject.Singleton;
+
+/**
+ * Exposes the counters every {@link WeightedLruCache} already keeps as
+ * {@code buildbag.cache.*} meters, tagged with the cache name.
+ */
+@Singleton
+public class CacheMetrics implements MeterBinder {
+
+    private final ConfigurationContentCache contentCache;
+    private final AuthenticatedUserResolver userResolver;
+    private final CachingTokenValidator tokenValidator;
+
+    public CacheMetrics(ConfigurationContentCache contentCache,
+                        AuthenticatedUserResolver userResolver,
+                        CachingTokenValidator tokenValidator) {
+        this.contentCache = contentCache;
+        this.userResolver = userResolver;
+        this.tokenValidator = tokenValidator;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bind(registry, "content", contentCache.stats());
+        bind(registry, "user-id", userResolver.stats());
+        bind(registry, "jwt", tokenValidator.stats());
+    }
+
+    static void bind(MeterRegistry registry, String name, WeightedLruCache<?, ?> cache) {
+        FunctionCounter.builder("buildbag.cache.hits", cache, WeightedLruCache::hitCount)
+            .tag("cache", name).register(registry);
+        FunctionCounter.builder("buildbag.cache.misses", cache, WeightedLruCache::missCount)
+            .tag("cache", name).register(registry);
+        FunctionCounter.builder("buildbag.cache.evictions", cache, WeightedLruCache::evictionCount)
+            .tag("cache", name).register(registry);
+        Gauge.builder("buildbag.cache.size", cache, WeightedLruCache::size)
+            .tag("cache", name).register(registry);
+        Gauge.builder("buildbag.cache.weight", cache, WeightedLruCache::weight)
+            .tag("cache", name).description("Total weight of the entries (bytes for content)").register(registry);
+        Gauge.builder("buildbag.cache.max.weight", cache, WeightedLruCache::maxWeight)
+            .tag("cache", name).register(registry);
+    }
+}
@@ -0,0 +1,26 @@
+package com.ixlab.metrics;
+
+import io.micronaut.aop.Around;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Records every call of the annotated bean's public methods (or of one method) in a timer
+ * named {@link #value()}, tagged with the class, the method and the exception thrown, if any.
+ * Works on Micronaut Data repository interfaces as well as on plain beans.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Around
+public @interface Measured {
+
+    /**
+     * @return the timer name
+     */
+    String value();
+}
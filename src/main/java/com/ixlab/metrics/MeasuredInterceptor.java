@@ -0,0 +1,48 @@
+package com.ixlab.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.aop.InterceptorBean;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.inject.ExecutableMethod;
+import jakarta.inject.Singleton;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Singleton
+@InterceptorBean(Measured.class)
+public class MeasuredInterceptor implements MethodInterceptor<Object, Object> {
+
+    static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry registry;
+    // Successful calls are the hot path: look their timer up once per method
+    private final Map<ExecutableMethod<?, ?>, Timer> timers = new ConcurrentHashMap<>();
+
+    public MeasuredInterceptor(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        Timer.Sample sample = Timer.start(registry);
+        try {
+            Object result = context.proceed();
+            sample.stop(timers.computeIfAbsent(context.getExecutableMethod(), m -> timer(context, NO_EXCEPTION)));
+            return result;
+        } catch (RuntimeException e) {
+            sample.stop(timer(context, e.getClass().getSimpleName()));
+            throw e;
+        }
+    }
+
+    private Timer timer(MethodInvocationContext<Object, Object> context, String exception) {
+        return Timer.builder(context.stringValue(Measured.class).orElse("buildbag.method"))
+            .tag("class", context.getDeclaringType().getSimpleName())
+            .tag("method", context.getMethodName())
+            .tag("exception", exception)
+            .register(registry);
+    }
+}
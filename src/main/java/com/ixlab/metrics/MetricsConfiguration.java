@@ -0,0 +1,35 @@
+package com.ixlab.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micronaut.context.annotation.Factory;
+import jakarta.inject.Singleton;
+
+/**
+ * Publishes histogram buckets for the latency and size meters, so Prometheus can compute
+ * p99 (or any quantile) per operation across instances with {@code histogram_quantile}.
+ */
+@Factory
+public class MetricsConfiguration {
+
+    static final String[] HISTOGRAM_PREFIXES = {"buildbag.", "http.server.requests", "hikaricp.connections.acquire"};
+
+    @Singleton
+    MeterFilter histogramFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                for (String prefix : HISTOGRAM_PREFIXES) {
+                    if (id.getName().startsWith(prefix)) {
+                        return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .build()
+                            .merge(config);
+                    }
+                }
+                return config;
+            }
+        };
+    }
+}
@@ -0,0 +1,247 @@
+package com.ixlab.properties;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Converts a {@code .properties} file into BuildBag configuration JSON. Server-side port of
+ * {@code parsePropertiesFile} in {@code static/config.js}: properties are grouped by the
+ * first two segments of their key, typed from their value, and categories containing keys
+ * that match the domain pattern (e.g. {@code domain{N}}) become domain templates.
+ * <p>
+ * Unlike the browser version, domain categories with the same template name are merged,
+ * and the values of each numbered domain are kept in {@code _domainValues} so rendering
+ * the result reproduces the imported file.
+ */
+@Singleton
+public class PropertiesJsonConverter {
+
+    public static final String DEFAULT_DOMAIN_PATTERN = "domain{N}";
+
+    private static final String GENERAL = "General";
+    private static final Pattern DIGITS = Pattern.compile("^\\d+$");
+    private static final Pattern HTML = Pattern.compile("<[a-z][\\s\\S]*>", Pattern.CASE_INSENSITIVE);
+    private static final Pattern UPPERCASE = Pattern.compile("([A-Z])");
+
+    private static final String[] MEXICO_STATES = {
+        "Aguascalientes", "Baja California", "Baja California Sur", "Campeche", "Chiapas", "Chihuahua",
+        "Ciudad de México", "Coahuila", "Colima", "Durango", "Estado de México", "Guanajuato", "Guerrero",
+        "Hidalgo", "Jalisco", "Michoacán", "Morelos", "Nayarit", "Nuevo León", "Oaxaca", "Puebla",
+        "Querétaro", "Quintana Roo", "San Luis Potosí", "Sinaloa", "Sonora", "Tabasco", "Tamaulipas",
+        "Tlaxcala", "Veracruz", "Yucatán", "Zacatecas"
+    };
+    private static final String[] PAYMENT_PERIODS = {
+        "Semanal", "Decenal", "Catorcenal", "Quincenal", "Mensual", "Bimestral", "Trimestral",
+        "Cuatrimestral", "Semestral", "Anual"
+    };
+
+    private final ObjectMapper objectMapper;
+
+    public PropertiesJsonConverter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public ObjectNode convert(Reader source, String fileName, String domainKeyPattern) throws IOException {
+        DomainPattern domain = new DomainPattern(domainKeyPattern == null ? DEFAULT_DOMAIN_PATTERN : domainKeyPattern);
+        Map<String, Map<String, String>> categories = new LinkedHashMap<>();
+        PropertiesReader.read(source, (key, value) ->
+            categories.computeIfAbsent(categoryOf(key), k -> new LinkedHashMap<>()).put(key, value));
+
+        ArrayNode globalCategories = objectMapper.createArrayNode();
+        Map<String, Map<String, ObjectNode>> domainCategories = new LinkedHashMap<>();
+        Map<Integer, Map<String, String>> domainValues = new TreeMap<>();
+
+        for (Map.Entry<String, Map<String, String>> category : categories.entrySet()) {
+            boolean isDomain = false;
+            for (String key : category.getValue().keySet()) {
+                if (domain.matches(key)) {
+                    isDomain = true;
+                    break;
+                }
+            }
+            if (!isDomain) {
+                ObjectNode node = globalCategories.addObject();
+                node.put("category", formatCategoryName(category.getKey()));
+                node.put("icon", "settings");
+                ArrayNode props = node.putArray("properties");
+                category.getValue().forEach((key, value) -> props.add(property(key, value)));
+                continue;
+            }
+
+            Map<String, ObjectNode> templates = domainCategories.computeIfAbsent(
+                domain.categoryName(category.getKey()), k -> new LinkedHashMap<>());
+            for (Map.Entry<String, String> prop : category.getValue().entrySet()) {
+                String template = domain.toTemplate(prop.getKey());
+                if (!templates.containsKey(template)) {
+                    ObjectNode node = property(prop.getKey(), prop.getValue());
+                    node.put("key", template);
+                    templates.put(template, node);
+                }
+                Integer number = domain.number(prop.getKey());
+                if (number != null) {
+                    domainValues.computeIfAbsent(number, n -> new LinkedHashMap<>()).put(template, prop.getValue());
+                }
+            }
+        }
+
+        ObjectNode root = objectMapper.createObjectNode();
+        String projectName = fileName.replaceFirst(Pattern.quote(".properties"), "").replace('-', ' ').replace('_', ' ');
+        root.put("projectName", projectName.isEmpty() ? projectName
+            : Character.toUpperCase(projectName.charAt(0)) + projectName.substring(1));
+        root.put("projectDescription", "Configuración importada desde " + fileName);
+        root.put("version", "1.0.0");
+        root.put("outputFileName", fileName);
+        if (!DEFAULT_DOMAIN_PATTERN.equals(domain.pattern)) {
+            root.put("domainKeyPattern", domain.pattern);
+        }
+        ArrayNode states = root.putArray("mexicoStates");
+        for (int i = 0; i < MEXICO_STATES.length; i++) {
+            states.addObject().put("value", String.valueOf(i + 1)).put("label", MEXICO_STATES[i]);
+        }
+        ArrayNode periods = root.putArray("paymentPeriods");
+        for (int i = 0; i < PAYMENT_PERIODS.length; i++) {
+            periods.addObject().put("value", String.valueOf(i + 1)).put("label", PAYMENT_PERIODS[i]).put("enabled", true);
+        }
+
+        if (globalCategories.size() == 0) {
+            ObjectNode empty = globalCategories.addObject();
+            empty.put("category", "Propiedades Generales");
+            empty.put("icon", "settings");
+            empty.putArray("properties");
+        }
+        root.set("globalProperties", globalCategories);
+
+        ArrayNode domainArray = root.putArray("domainProperties");
+        domainCategories.forEach((name, templates) -> {
+            ObjectNode node = domainArray.addObject();
+            node.put("category", name);
+            ArrayNode props = node.putArray("properties");
+            templates.values().forEach(props::add);
+        });
+        if (domainArray.size() == 0) {
+            ObjectNode empty = domainArray.addObject();
+            empty.put("category", "Configuración del Dominio");
+            empty.putArray("properties");
+        }
+
+        if (!domainValues.isEmpty()) {
+            ArrayNode saved = root.putArray("_domainValues");
+            domainValues.forEach((number, values) -> {
+                ObjectNode d = saved.addObject();
+                d.put("id", number);
+                d.put("name", "Dominio " + number);
+                ObjectNode props = d.putObject("properties");
+                values.forEach(props::put);
+            });
+        }
+        return root;
+    }
+
+    private ObjectNode property(String key, String value) {
+        String type = "text";
+        String booleanType = null;
+        if ("true".equals(value) || "false".equals(value)) {
+            type = "boolean";
+            booleanType = "string";
+        } else if ("1".equals(value) || "0".equals(value)) {
+            type = "boolean";
+            booleanType = "number";
+        } else if (DIGITS.matcher(value).matches()) {
+            type = "number";
+        } else if (value.startsWith("http://") || value.startsWith("https://")) {
+            type = "url";
+        } else if (HTML.matcher(value).find()) {
+            type = "html";
+        }
+
+        ObjectNode prop = objectMapper.createObjectNode();
+        prop.put("key", key);
+        prop.put("label", UPPERCASE.matcher(key.substring(key.lastIndexOf('.') + 1)).replaceAll(" $1").trim());
+        prop.put("type", type);
+        prop.put("default", value);
+        prop.put("required", false);
+        prop.put("needsConfirmation", "text".equals(type) || "url".equals(type));
+        prop.put("description", "Propiedad importada: " + key);
+        if (booleanType != null) {
+            prop.put("booleanType", booleanType);
+        }
+        if ("url".equals(type)) {
+            prop.put("checkService", true);
+        }
+        return prop;
+    }
+
+    static String categoryOf(String key) {
+        int first = key.indexOf('.');
+        if (first < 0) return GENERAL;
+        int second = key.indexOf('.', first + 1);
+        return second < 0 ? key : key.substring(0, second);
+    }
+
+    static String formatCategoryName(String name) {
+        List<String> parts = new ArrayList<>();
+        for (String part : name.split("\\.", -1)) {
+            parts.add(part.isEmpty() ? part : Character.toUpperCase(part.charAt(0)) + part.substring(1));
+        }
+        return UPPERCASE.matcher(String.join(" - ", parts)).replaceAll(" $1").trim();
+    }
+
+    /**
+     * The configurable domain key pattern, where {@code {N}} stands for the domain number.
+     */
+    static final class DomainPattern {
+        final String pattern;
+        private final Pattern numbered;
+        private final Pattern template;
+        private final String replacement;
+
+        DomainPattern(String pattern) {
+            this.pattern = pattern;
+            String[] parts = pattern.split(Pattern.quote("{N}"), -1);
+            if (parts.length == 2) {
+                numbered = Pattern.compile(Pattern.quote(parts[0]) + "(\\d+)" + Pattern.quote(parts[1]), Pattern.CASE_INSENSITIVE);
+                replacement = Matcher.quoteReplacement(parts[0]) + "{N}" + Matcher.quoteReplacement(parts[1]);
+            } else {
+                numbered = null;
+                replacement = null;
+            }
+            template = Pattern.compile(Pattern.quote(pattern), Pattern.CASE_INSENSITIVE);
+        }
+
+        boolean matches(String key) {
+            return (numbered != null && numbered.matcher(key).find()) || template.matcher(key).find();
+        }
+
+        String toTemplate(String key) {
+            return numbered == null ? key : numbered.matcher(key).replaceAll(replacement);
+        }
+
+        Integer number(String key) {
+            if (numbered == null) return null;
+            Matcher m = numbered.matcher(key);
+            if (!m.find()) return null;
+            try {
+                return Integer.valueOf(m.group(1));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        String categoryName(String category) {
+            String name = numbered == null ? category : numbered.matcher(category).replaceAll("Dominio");
+            return template.matcher(name).replaceAll("Dominio");
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.ixlab.properties;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.BiConsumer;
+
+/**
+ * Streaming {@code .properties} reader with the semantics of {@link java.util.Properties#load(Reader)}:
+ * {@code #}/{@code !} comments, {@code =}, {@code :} or whitespace separators, continuation
+ * lines ending in an odd number of backslashes, and {@code \t \n \r \f \\uXXXX} escapes.
+ * Pairs are handed to the consumer as they are read, in file order; only the current
+ * logical line is held in memory.
+ */
+public final class PropertiesReader {
+
+    private PropertiesReader() {}
+
+    public static void read(Reader source, BiConsumer<String, String> consumer) throws IOException {
+        BufferedReader reader = source instanceof BufferedReader ? (BufferedReader) source : new BufferedReader(source);
+        StringBuilder logical = new StringBuilder();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            int start = skipWhitespace(line, 0);
+            if (logical.length() == 0) {
+                if (start == line.length()) continue;
+                char first = line.charAt(start);
+                if (first == '#' || first == '!') continue;
+            }
+            if (endsWithContinuation(line)) {
+                logical.append(line, start, line.length() - 1);
+                continue;
+            }
+            logical.append(line, start, line.length());
+            parse(logical, consumer);
+            logical.setLength(0);
+        }
+        if (logical.length() > 0) {
+            parse(logical, consumer);
+        }
+    }
+
+    private static void parse(CharSequence line, BiConsumer<String, String> consumer) {
+        int length = line.length();
+        int keyEnd = 0;
+        boolean escaped = false;
+        while (keyEnd < length) {
+            char c = line.charAt(keyEnd);
+            if (escaped) {
+                escaped = false;
+            } else if (c == '\\') {
+                escaped = true;
+            } else if (c == '=' || c == ':' || isBlank(c)) {
+                break;
+            }
+            keyEnd++;
+        }
+
+        int valueStart = keyEnd;
+        while (valueStart < length && isBlank(line.charAt(valueStart))) {
+            valueStart++;
+        }
+        if (valueStart < length && (line.charAt(valueStart) == '=' || line.charAt(valueStart) == ':')) {
+            valueStart++;
+            while (valueStart < length && isBlank(line.charAt(valueStart))) {
+                valueStart++;
+            }
+        }
+        consumer.accept(unescape(line, 0, keyEnd), unescape(line, valueStart, length));
+    }
+
+    static String unescape(CharSequence s, int from, int to) {
+        StringBuilder out = new StringBuilder(to - from);
+        int i = from;
+        while (i < to) {
+            char c = s.charAt(i++);
+            if (c != '\\' || i == to) {
+                out.append(c);
+                continue;
+            }
+            c = s.charAt(i++);
+            switch (c) {
+                case 't': out.append('\t'); break;
+                case 'n': out.append('\n'); break;
+                case 'r': out.append('\r'); break;
+                case 'f': out.append('\f'); break;
+                case 'u':
+                    if (i + 4 > to) {
+                        throw new IllegalArgumentException("Malformed \\uXXXX escape");
+                    }
+                    try {
+                        out.append((char) Integer.parseInt(s.subSequence(i, i + 4).toString(), 16));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Malformed \\uXXXX escape", e);
+                    }
+                    i += 4;
+                    break;
+                default: out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    private static boolean endsWithContinuation(String line) {
+        int backslashes = 0;
+        for (int i = line.length() - 1; i >= 0 && line.charAt(i) == '\\'; i--) {
+            backslashes++;
+        }
+        return backslashes % 2 == 1;
+    }
+
+    private static int skipWhitespace(String line, int from) {
+        int i = from;
+        while (i < line.length() && isBlank(line.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isBlank(char c) {
+        return c == ' ' || c == '\t' || c == '\f';
+    }
+}
@@ -0,0 +1,86 @@
+package com.ixlab.render;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Singleton;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Renders stored configurations as {@code .properties} text, keeping the compiled
+ * templates of recently used configurations keyed by id and {@code updatedAt}.
+ */
+@Singleton
+public class PropertiesRenderer {
+
+    private final PropertiesTemplateCompiler compiler;
+    private final Map<Long, CachedTemplate> cache;
+
+    public PropertiesRenderer(ObjectMapper objectMapper,
+                              @Value("${buildbag.render.cache-size:1000}") int cacheSize) {
+        this.compiler = new PropertiesTemplateCompiler(objectMapper);
+        this.cache = new LinkedHashMap<Long, CachedTemplate>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedTemplate> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * @param content only invoked when no compiled template exists for this version
+     */
+    public String render(Long configId, LocalDateTime updatedAt, Supplier<byte[]> content) {
+        return template(configId, updatedAt, content).render(LocalDateTime.now());
+    }
+
+    public PropertiesTemplate template(Long configId, LocalDateTime updatedAt, Supplier<byte[]> content) {
+        synchronized (cache) {
+            CachedTemplate cached = cache.get(configId);
+            if (cached != null && Objects.equals(cached.updatedAt, updatedAt)) {
+                return cached.template;
+            }
+        }
+        PropertiesTemplate template = compiler.compile(content.get());
+        synchronized (cache) {
+            cache.put(configId, new CachedTemplate(updatedAt, template));
+        }
+        return template;
+    }
+
+    /**
+     * Same as {@link #render} but a template compiled here is not cached, so one-off bulk
+     * rendering (exports) does not evict the templates of configurations in active use.
+     */
+    public String renderUncached(Long configId, LocalDateTime updatedAt, Supplier<byte[]> content) {
+        PropertiesTemplate template;
+        synchronized (cache) {
+            CachedTemplate cached = cache.get(configId);
+            template = cached != null && Objects.equals(cached.updatedAt, updatedAt) ? cached.template : null;
+        }
+        if (template == null) {
+            template = compiler.compile(content.get());
+        }
+        return template.render(LocalDateTime.now());
+    }
+
+    public void evict(Long configId) {
+        synchronized (cache) {
+            cache.remove(configId);
+        }
+    }
+
+    private static final class CachedTemplate {
+        final LocalDateTime updatedAt;
+        final PropertiesTemplate template;
+
+        CachedTemplate(LocalDateTime updatedAt, PropertiesTemplate template) {
+            this.updatedAt = updatedAt;
+            this.template = template;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.ixlab.render;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Compiled form of a stored configuration: everything below the header is
+ * resolved once at compile time, so rendering only prepends the timestamp.
+ */
+public final class PropertiesTemplate {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("d/M/yyyy, HH:mm:ss");
+
+    private final String body;
+
+    PropertiesTemplate(String body) {
+        this.body = body;
+    }
+
+    public String render(LocalDateTime generatedAt) {
+        StringBuilder sb = new StringBuilder(body.length() + 160);
+        sb.append("# ============================================\n");
+        sb.append("# Archivo de Configuración SeguriSign\n");
+        sb.append("# Generado: ").append(generatedAt.format(TIMESTAMP_FORMATTER)).append('\n');
+        sb.append("# ============================================\n\n");
+        sb.append(body);
+        return sb.toString();
+    }
+
+    public int length() {
+        return body.length();
+    }
+}
@@ -0,0 +1,252 @@
+package com.ixlab.render;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns the JSON stored for a configuration into a {@link PropertiesTemplate}.
+ * Mirrors {@code generatePropertiesContent()} in {@code static/config.js}, using the
+ * values saved in the JSON (property defaults and {@code _domainValues}) instead of the form.
+ */
+public class PropertiesTemplateCompiler {
+
+    static final String DOMAIN_COUNT_KEY = "hrvertical.portalfirma.dominios.totalconfigurados";
+    static final String LANGUAGE_COUNT_KEY = "portal.languages.total";
+    private static final int MAX_REPEAT = 20;
+    private static final String[] DEFAULT_LANGUAGES = {"es", "en", "fr"};
+    private static final String GLOBAL_RULE = repeat('-', 50);
+    private static final String DOMAIN_RULE = repeat('=', 50);
+    private static final String DOMAIN_CATEGORY_RULE = repeat('-', 40);
+
+    private final ObjectMapper objectMapper;
+
+    public PropertiesTemplateCompiler(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public PropertiesTemplate compile(byte[] json) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(json);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Configuration content is not valid JSON", e);
+        }
+        if (root == null || !root.isObject()) {
+            throw new IllegalArgumentException("Configuration content must be a JSON object");
+        }
+
+        Map<String, String> globalValues = collectGlobalValues(root.path("globalProperties"));
+        StringBuilder sb = new StringBuilder(json.length / 2 + 64);
+
+        for (JsonNode category : root.path("globalProperties")) {
+            sb.append("# ").append(GLOBAL_RULE).append('\n');
+            sb.append("# ").append(category.path("category").asText("").toUpperCase()).append('\n');
+            sb.append("# ").append(GLOBAL_RULE).append('\n');
+            for (JsonNode prop : category.path("properties")) {
+                appendGlobalProperty(sb, prop, globalValues);
+            }
+            sb.append('\n');
+        }
+
+        JsonNode domainProperties = root.path("domainProperties");
+        for (Domain domain : resolveDomains(root, domainProperties, globalValues)) {
+            sb.append("# ").append(DOMAIN_RULE).append('\n');
+            sb.append("# DOMINIO ").append(domain.id).append('\n');
+            sb.append("# ").append(DOMAIN_RULE).append("\n\n");
+            for (JsonNode category : domainProperties) {
+                sb.append("# ").append(DOMAIN_CATEGORY_RULE).append('\n');
+                sb.append("# ").append(category.path("category").asText("")).append('\n');
+                sb.append("# ").append(DOMAIN_CATEGORY_RULE).append('\n');
+                for (JsonNode prop : category.path("properties")) {
+                    appendDomainProperty(sb, prop, domain);
+                }
+                sb.append('\n');
+            }
+        }
+        return new PropertiesTemplate(sb.toString());
+    }
+
+    private void appendGlobalProperty(StringBuilder sb, JsonNode prop, Map<String, String> globalValues) {
+        String key = prop.path("key").asText("");
+        JsonNode repeat = prop.path("repeatBasedOn");
+        if (!repeat.path("key").asText("").isEmpty()) {
+            String placeholder = repeat.path("placeholder").asText("[N]");
+            int count = clamp(parseInt(globalValues.get(repeat.path("key").asText())));
+            JsonNode defaults = prop.path("default");
+            for (int i = 1; i <= count; i++) {
+                String n = String.valueOf(i);
+                String fieldKey = replaceFirst(replaceFirst(replaceFirst(key, placeholder, n), "[N]", n), "{N}", n);
+                String value = defaults.isArray() && defaults.size() >= i ? defaults.get(i - 1).asText("") : "";
+                sb.append("# ").append(prop.path("label").asText("")).append(' ').append(i).append('\n');
+                sb.append(fieldKey).append('=').append(value).append('\n');
+            }
+            return;
+        }
+
+        if ("dynamicLanguages".equals(prop.path("type").asText())) {
+            String total = globalValues.get(LANGUAGE_COUNT_KEY);
+            int count = total == null || total.isEmpty() ? DEFAULT_LANGUAGES.length : clamp(parseInt(total));
+            JsonNode defaults = prop.path("default");
+            for (int i = 1; i <= count; i++) {
+                String value;
+                if (defaults.isArray()) {
+                    value = defaults.size() >= i ? defaults.get(i - 1).asText("") : "";
+                } else {
+                    value = i <= DEFAULT_LANGUAGES.length ? DEFAULT_LANGUAGES[i - 1] : "";
+                }
+                sb.append("# Código del idioma ").append(i).append('\n');
+                sb.append("portal.languages.language").append(i).append('=').append(value).append('\n');
+            }
+            return;
+        }
+
+        String value = textValue(prop.path("default"));
+        if ("boolean".equals(prop.path("type").asText())) {
+            value = formatBoolean(isTruthy(value), prop.path("booleanType").asText());
+        }
+        appendDescription(sb, prop);
+        sb.append(key).append('=').append(value).append('\n');
+    }
+
+    private void appendDomainProperty(StringBuilder sb, JsonNode prop, Domain domain) {
+        String key = prop.path("key").asText("");
+        String actualKey = key.replace("{N}", String.valueOf(domain.id));
+        boolean isBoolean = "boolean".equals(prop.path("type").asText());
+        String booleanType = prop.path("booleanType").asText();
+        String value;
+
+        JsonNode saved = domain.properties.get(key);
+        if (saved != null && !saved.isMissingNode()) {
+            if (isBoolean) {
+                value = formatBoolean(saved.isBoolean() ? saved.booleanValue() : isTruthy(saved.asText()), booleanType);
+            } else {
+                value = textValue(saved);
+            }
+        } else if (prop.path("autoFillDomainId").asBoolean(false)) {
+            value = String.valueOf(domain.id);
+        } else if (isBoolean) {
+            value = textValue(prop.path("default"));
+            if (value.isEmpty()) {
+                value = "string".equals(booleanType) ? "false" : "0";
+            }
+        } else {
+            value = textValue(prop.path("default"));
+        }
+
+        appendDescription(sb, prop);
+        sb.append(actualKey).append('=').append(value).append('\n');
+    }
+
+    private List<Domain> resolveDomains(JsonNode root, JsonNode domainProperties, Map<String, String> globalValues) {
+        List<Domain> domains = new ArrayList<>();
+        boolean hasDomainProps = false;
+        for (JsonNode category : domainProperties) {
+            if (category.path("properties").size() > 0) {
+                hasDomainProps = true;
+                break;
+            }
+        }
+        if (!hasDomainProps) {
+            return domains;
+        }
+
+        JsonNode saved = root.path("_domainValues");
+        if (saved.isArray() && saved.size() > 0) {
+            int index = 1;
+            for (JsonNode d : saved) {
+                Map<String, JsonNode> props = new HashMap<>();
+                d.path("properties").fields().forEachRemaining(e -> props.put(e.getKey(), e.getValue()));
+                domains.add(new Domain(d.path("id").asInt(index), props));
+                index++;
+            }
+            return domains;
+        }
+
+        int total = clamp(parseInt(globalValues.get(DOMAIN_COUNT_KEY)));
+        if (total == 0) total = 2;
+        for (int i = 1; i <= total; i++) {
+            domains.add(new Domain(i, new HashMap<>()));
+        }
+        return domains;
+    }
+
+    private Map<String, String> collectGlobalValues(JsonNode globalProperties) {
+        Map<String, String> values = new HashMap<>();
+        for (JsonNode category : globalProperties) {
+            for (JsonNode prop : category.path("properties")) {
+                values.put(prop.path("key").asText(""), textValue(prop.path("default")));
+            }
+        }
+        return values;
+    }
+
+    private static void appendDescription(StringBuilder sb, JsonNode prop) {
+        String description = prop.path("description").asText("");
+        if (!description.isEmpty()) {
+            sb.append("# ").append(description).append('\n');
+        }
+    }
+
+    private static String textValue(JsonNode node) {
+        if (node == null || node.isMissingNode() || node.isNull() || node.isArray() || node.isObject()) {
+            return "";
+        }
+        return node.asText();
+    }
+
+    private static boolean isTruthy(String value) {
+        return "true".equalsIgnoreCase(value) || "1".equals(value);
+    }
+
+    private static String formatBoolean(boolean value, String booleanType) {
+        if ("string".equals(booleanType)) {
+            return value ? "true" : "false";
+        }
+        return value ? "1" : "0";
+    }
+
+    private static int parseInt(String value) {
+        if (value == null) return 0;
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Bounds a count read from the stored values, which anyone able to save a configuration controls.
+     */
+    private static int clamp(int count) {
+        return Math.min(Math.max(count, 0), MAX_REPEAT);
+    }
+
+    private static String replaceFirst(String source, String target, String replacement) {
+        int idx = source.indexOf(target);
+        if (idx < 0) return source;
+        return source.substring(0, idx) + replacement + source.substring(idx + target.length());
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+
+    private static final class Domain {
+        final int id;
+        final Map<String, JsonNode> properties;
+
+        Domain(int id, Map<String, JsonNode> properties) {
+            this.id = id;
+            this.properties = properties;
+        }
+    }
+}
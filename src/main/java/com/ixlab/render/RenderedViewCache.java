@@ -0,0 +1,69 @@
+package com.ixlab.render;
+
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.io.Writable;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.views.ViewsRenderer;
+import jakarta.inject.Singleton;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rendered HTML of the Thymeleaf views, kept as UTF-8 bytes per view and locale. Only for
+ * views whose output depends on nothing but the model and the locale: the model given for
+ * a view must be the same on every call, and the request is never looked at.
+ * <p>
+ * Locales come from {@code Accept-Language}, so the number of entries is capped by
+ * {@code buildbag.views.cache.max-entries}; past it views are rendered without caching.
+ */
+@Singleton
+public class RenderedViewCache {
+
+    @SuppressWarnings("rawtypes")
+    private final ViewsRenderer renderer;
+    private final int maxEntries;
+    private final Map<String, byte[]> rendered = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("rawtypes")
+    public RenderedViewCache(ViewsRenderer renderer,
+                             @Value("${buildbag.views.cache.max-entries:64}") int maxEntries) {
+        this.renderer = renderer;
+        this.maxEntries = maxEntries;
+    }
+
+    public byte[] render(String view, Map<String, Object> model, Locale locale, @Nullable HttpRequest<?> request) {
+        String key = view + '|' + locale.toLanguageTag();
+        byte[] html = rendered.get(key);
+        if (html != null) return html;
+
+        html = renderNow(view, model, request);
+        if (rendered.size() < maxEntries) {
+            // Two first requests may both render; either result is the same
+            rendered.putIfAbsent(key, html);
+        }
+        return html;
+    }
+
+    public int size() {
+        return rendered.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] renderNow(String view, Map<String, Object> model, @Nullable HttpRequest<?> request) {
+        Writable writable = renderer.render(view, model, request);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16384);
+        try {
+            writable.writeTo(out, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
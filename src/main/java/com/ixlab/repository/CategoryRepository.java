@@ -1,6 +1,7 @@
 package com.ixlab.repository;
 
 import com.ixlab.domain.Category;
+import com.ixlab.metrics.Measured;
 import io.micronaut.data.annotation.Repository;
 import io.micronaut.data.repository.CrudRepository;
 
@@ -8,9 +9,10 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
+@Measured("buildbag.repository")
 public interface CategoryRepository extends CrudRepository<Category, Long> {
     List<Category> findByOwnerId(Long ownerId);
+    List<Category> findByOwnerIdOrderById(Long ownerId);
     Optional<Category> findByNameAndOwnerId(String name, Long ownerId);
     boolean existsByNameAndOwnerId(String name, Long ownerId);
 }
-
@@ -0,0 +1,25 @@
+package com.ixlab.repository;
+
+import com.ixlab.domain.ConfigurationBlob;
+import com.ixlab.metrics.Measured;
+import io.micronaut.data.annotation.Query;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.repository.CrudRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@Measured("buildbag.repository")
+public interface ConfigurationBlobRepository extends CrudRepository<ConfigurationBlob, String> {
+
+    @Query("UPDATE ConfigurationBlob b SET b.refCount = b.refCount + :delta WHERE b.hash = :hash")
+    int updateRefCount(String hash, long delta);
+
+    void deleteByHashAndRefCountLessThanEquals(String hash, long refCount);
+
+    List<String> findHashByHashIn(Collection<String> hashes);
+
+    List<String> findHashByHashGreaterThanOrderByHash(String hash, Pageable pageable);
+}
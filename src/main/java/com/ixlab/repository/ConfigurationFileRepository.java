@@ -1,17 +1,47 @@
 package com.ixlab.repository;
 
 import com.ixlab.domain.ConfigurationFile;
+import com.ixlab.dto.ConfigurationSummary;
+import com.ixlab.dto.ConfigurationVersion;
+import com.ixlab.metrics.Measured;
+import io.micronaut.data.annotation.Query;
 import io.micronaut.data.annotation.Repository;
-import io.micronaut.data.repository.CrudRepository;
+import io.micronaut.data.jpa.repository.JpaRepository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ConfigurationFileRepository extends CrudRepository<ConfigurationFile, Long> {
+@Measured("buildbag.repository")
+public interface ConfigurationFileRepository extends JpaRepository<ConfigurationFile, Long> {
+
+    String SUMMARY_SELECT = "SELECT c.id AS id, c.name AS name, c.subcategory AS subcategory, " +
+            "cat.id AS categoryId, cat.name AS categoryName, c.createdAt AS createdAt, c.updatedAt AS updatedAt " +
+            "FROM ConfigurationFile c LEFT JOIN c.category cat ";
+
     List<ConfigurationFile> findByOwnerId(Long ownerId);
     List<ConfigurationFile> findByCategoryId(Long categoryId);
     List<ConfigurationFile> findByOwnerIdAndCategoryId(Long ownerId, Long categoryId);
     Optional<ConfigurationFile> findByIdAndOwnerId(Long id, Long ownerId);
     boolean existsByNameAndSubcategoryAndCategoryIdAndOwnerId(String name, String subcategory, Long categoryId, Long ownerId);
+    List<Long> findIdByCategoryId(Long categoryId);
+    List<String> findContentHashByCategoryId(Long categoryId);
+
+    /**
+     * Metadata of every configuration of an owner, with the category resolved in the
+     * same statement. Never touches the content table.
+     */
+    @Query(SUMMARY_SELECT + "WHERE c.owner.id = :ownerId ORDER BY c.id")
+    List<ConfigurationSummary> findSummariesByOwnerId(Long ownerId);
+
+    @Query("SELECT c.id AS id, c.contentHash AS contentHash, c.updatedAt AS updatedAt, c.version AS version " +
+           "FROM ConfigurationFile c WHERE c.id = :id AND c.owner.id = :ownerId")
+    Optional<ConfigurationVersion> findVersion(Long id, Long ownerId);
+
+    /**
+     * Rows written before the version column existed have none; Hibernate cannot
+     * increment a null version, so they start at 0.
+     */
+    @Query("UPDATE ConfigurationFile c SET c.version = 0 WHERE c.version IS NULL")
+    int updateMissingVersions();
 }
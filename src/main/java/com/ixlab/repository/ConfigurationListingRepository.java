@@ -0,0 +1,210 @@
+package com.ixlab.repository;
+
+import com.ixlab.dto.ConfigurationFilter;
+import com.ixlab.dto.ConfigurationSummary;
+import com.ixlab.metrics.Measured;
+import jakarta.inject.Singleton;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Filtered, keyset-paginated listing of configuration metadata. The sort column and id
+ * form the keyset, so each page is an index range scan on {@code (user_id, <sort>, id)}
+ * instead of an OFFSET over the whole table.
+ */
+@Singleton
+@Measured("buildbag.repository")
+public class ConfigurationListingRepository {
+
+    public static final int MAX_LIMIT = 500;
+
+    private static final String SELECT_WITH_CONTENT =
+        "SELECT c.id AS id, c.name AS name, c.subcategory AS subcategory, cat.id AS categoryId, cat.name AS categoryName, " +
+        "c.createdAt AS createdAt, c.updatedAt AS updatedAt, b.content AS content " +
+        "FROM ConfigurationFile c LEFT JOIN c.category cat, ConfigurationBlob b " +
+        "WHERE b.hash = c.contentHash AND c.owner.id = :ownerId ORDER BY cat.id, c.id";
+
+    private final EntityManager entityManager;
+
+    public ConfigurationListingRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Returns at most {@code limit + 1} rows when paginating; the extra row tells the caller there is a next page.
+     */
+    public List<ConfigurationSummary> find(Long ownerId, ConfigurationFilter filter) {
+        Sort sort = Sort.parse(filter.getSort(), filter.getLimit() != null || filter.getCursor() != null);
+        Cursor cursor = filter.getCursor() == null ? null : Cursor.decode(filter.getCursor(), sort);
+
+        StringBuilder jpql = new StringBuilder(ConfigurationFileRepository.SUMMARY_SELECT)
+            .append("WHERE c.owner.id = :ownerId");
+        if (filter.getCategoryId() != null) {
+            jpql.append(" AND cat.id = :categoryId");
+        }
+        if (filter.getSubcategory() != null) {
+            jpql.append(" AND c.subcategory = :subcategory");
+        }
+        if (filter.getNamePrefix() != null && !filter.getNamePrefix().isEmpty()) {
+            jpql.append(" AND c.name LIKE :namePrefix ESCAPE '!'");
+        }
+        if (cursor != null) {
+            String op = sort.descending ? "<" : ">";
+            if (sort.column == null) {
+                jpql.append(" AND c.id ").append(op).append(" :cursorId");
+            } else {
+                jpql.append(" AND (c.").append(sort.column).append(' ').append(op).append(" :cursorValue")
+                    .append(" OR (c.").append(sort.column).append(" = :cursorValue AND c.id ").append(op).append(" :cursorId))");
+            }
+        }
+        String direction = sort.descending ? " DESC" : " ASC";
+        jpql.append(" ORDER BY ");
+        if (sort.column != null) {
+            jpql.append("c.").append(sort.column).append(direction).append(", ");
+        }
+        jpql.append("c.id").append(direction);
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class)
+            .setParameter("ownerId", ownerId);
+        if (filter.getCategoryId() != null) {
+            query.setParameter("categoryId", filter.getCategoryId());
+        }
+        if (filter.getSubcategory() != null) {
+            query.setParameter("subcategory", filter.getSubcategory());
+        }
+        if (filter.getNamePrefix() != null && !filter.getNamePrefix().isEmpty()) {
+            query.setParameter("namePrefix", escapeLike(filter.getNamePrefix()) + "%");
+        }
+        if (cursor != null) {
+            query.setParameter("cursorId", cursor.id);
+            if (sort.column != null) {
+                query.setParameter("cursorValue", cursor.value);
+            }
+        }
+        if (filter.getLimit() != null) {
+            query.setMaxResults(Math.min(Math.max(filter.getLimit(), 1), MAX_LIMIT) + 1);
+        }
+
+        List<Tuple> rows = query.getResultList();
+        List<ConfigurationSummary> result = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            result.add(toSummary(row));
+        }
+        return result;
+    }
+
+    /**
+     * Maps a row selected with the {@link ConfigurationFileRepository#SUMMARY_SELECT} aliases.
+     */
+    public static ConfigurationSummary toSummary(Tuple row) {
+        ConfigurationSummary summary = new ConfigurationSummary();
+        summary.setId(row.get("id", Long.class));
+        summary.setName(row.get("name", String.class));
+        summary.setSubcategory(row.get("subcategory", String.class));
+        summary.setCategoryId(row.get("categoryId", Long.class));
+        summary.setCategoryName(row.get("categoryName", String.class));
+        summary.setCreatedAt(row.get("createdAt", LocalDateTime.class));
+        summary.setUpdatedAt(row.get("updatedAt", LocalDateTime.class));
+        return summary;
+    }
+
+    /**
+     * Every configuration of the owner with its stored (still encoded) content under the
+     * {@code content} alias, ordered by category. Rows are scrolled from the database
+     * {@code fetchSize} at a time and nothing is attached to the session, so memory stays
+     * flat whatever the workspace size. The stream must be closed.
+     */
+    public Stream<Tuple> streamWithContent(Long ownerId, int fetchSize) {
+        return entityManager.createQuery(SELECT_WITH_CONTENT, Tuple.class)
+            .setParameter("ownerId", ownerId)
+            .setHint("org.hibernate.fetchSize", fetchSize)
+            .setHint("org.hibernate.readOnly", true)
+            .getResultStream();
+    }
+
+    /**
+     * Opaque cursor pointing after the given row for the filter's sort order.
+     */
+    public String cursorAfter(ConfigurationSummary last, ConfigurationFilter filter) {
+        Sort sort = Sort.parse(filter.getSort(), true);
+        String value;
+        if ("updatedAt".equals(sort.column)) {
+            value = last.getUpdatedAt() == null ? "" : last.getUpdatedAt().toString();
+        } else if ("name".equals(sort.column)) {
+            value = last.getName();
+        } else {
+            value = "";
+        }
+        String raw = sort.key + "\n" + last.getId() + "\n" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    private static final class Sort {
+        final String key;
+        final String column;
+        final boolean descending;
+
+        private Sort(String key, String column, boolean descending) {
+            this.key = key;
+            this.column = column;
+            this.descending = descending;
+        }
+
+        static Sort parse(String sort, boolean paginated) {
+            String key = sort == null || sort.isEmpty() ? (paginated ? "-updatedAt" : "id") : sort;
+            boolean descending = key.startsWith("-");
+            String field = descending ? key.substring(1) : key;
+            switch (field) {
+                case "id":
+                    return new Sort(key, null, descending);
+                case "updatedAt":
+                case "name":
+                    return new Sort(key, field, descending);
+                default:
+                    throw new IllegalArgumentException("Unsupported sort: " + sort);
+            }
+        }
+    }
+
+    private static final class Cursor {
+        final Long id;
+        final Object value;
+
+        private Cursor(Long id, Object value) {
+            this.id = id;
+            this.value = value;
+        }
+
+        static Cursor decode(String encoded, Sort sort) {
+            String[] parts;
+            try {
+                parts = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8).split("\n", 3);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid cursor", e);
+            }
+            if (parts.length != 3 || !parts[0].equals(sort.key)) {
+                throw new IllegalArgumentException("Cursor does not match the requested sort");
+            }
+            try {
+                Long id = Long.valueOf(parts[1]);
+                Object value = "updatedAt".equals(sort.column) ? LocalDateTime.parse(parts[2]) : parts[2];
+                return new Cursor(id, value);
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid cursor", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.ixlab.repository;
+
+import com.ixlab.domain.ConfigurationRevision;
+import com.ixlab.dto.RevisionSummary;
+import com.ixlab.metrics.Measured;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.repository.CrudRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Measured("buildbag.repository")
+public interface ConfigurationRevisionRepository extends CrudRepository<ConfigurationRevision, Long> {
+
+    List<RevisionSummary> findByConfigurationIdOrderByRevisionDesc(Long configurationId);
+
+    Optional<RevisionSummary> findTopByConfigurationIdOrderByRevisionDesc(Long configurationId);
+
+    Optional<RevisionSummary> findByConfigurationIdAndRevision(Long configurationId, Integer revision);
+
+    List<ConfigurationRevision> findByConfigurationIdAndRevisionBetweenOrderByRevision(Long configurationId, Integer from, Integer to);
+
+    void deleteByConfigurationId(Long configurationId);
+
+    void deleteByConfigurationIdIn(Collection<Long> configurationIds);
+}
@@ -0,0 +1,82 @@
+package com.ixlab.repository;
+
+import com.ixlab.dto.SearchHit;
+import com.ixlab.metrics.Measured;
+import jakarta.inject.Singleton;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lookups in the property search index. Key and value criteria are exact matches on the
+ * normalized columns, or prefix matches when they end in {@code *}; a value also matches
+ * any single word of the indexed value. Every criterion is answered from the
+ * {@code (owner_id, ...)} indexes without reading configuration content.
+ */
+@Singleton
+@Measured("buildbag.repository")
+public class ConfigurationSearchRepository {
+
+    private final EntityManager entityManager;
+
+    public ConfigurationSearchRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * @param key   normalized key criterion, or {@code null}
+     * @param value normalized value criterion, or {@code null}
+     */
+    public List<SearchHit> search(Long ownerId, String key, String value, int limit) {
+        StringBuilder jpql = new StringBuilder(
+            "SELECT t.configurationId AS configurationId, c.name AS configurationName, t.path AS path, " +
+            "t.propertyKey AS propertyKey, t.propertyValue AS propertyValue " +
+            "FROM ConfigurationTerm t, ConfigurationFile c " +
+            "WHERE c.id = t.configurationId AND t.ownerId = :ownerId");
+        if (key != null) {
+            jpql.append(isPrefix(key) ? " AND t.keyNorm LIKE :key ESCAPE '!'" : " AND t.keyNorm = :key");
+        }
+        if (value != null) {
+            String op = isPrefix(value) ? " LIKE :value ESCAPE '!'" : " = :value";
+            jpql.append(" AND (t.valueNorm").append(op)
+                .append(" OR t.id IN (SELECT k.termId FROM ConfigurationTermToken k WHERE k.ownerId = :ownerId AND k.token")
+                .append(op).append("))");
+        }
+        jpql.append(" ORDER BY t.configurationId, t.path");
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class)
+            .setParameter("ownerId", ownerId)
+            .setMaxResults(limit);
+        if (key != null) {
+            query.setParameter("key", parameter(key));
+        }
+        if (value != null) {
+            query.setParameter("value", parameter(value));
+        }
+
+        List<SearchHit> hits = new ArrayList<>();
+        for (Tuple row : query.getResultList()) {
+            SearchHit hit = new SearchHit();
+            hit.setConfigurationId(row.get("configurationId", Long.class));
+            hit.setConfigurationName(row.get("configurationName", String.class));
+            hit.setPath(row.get("path", String.class));
+            hit.setKey(row.get("propertyKey", String.class));
+            hit.setValue(row.get("propertyValue", String.class));
+            hits.add(hit);
+        }
+        return hits;
+    }
+
+    private static boolean isPrefix(String criterion) {
+        return criterion.endsWith("*");
+    }
+
+    private static String parameter(String criterion) {
+        if (!isPrefix(criterion)) return criterion;
+        String prefix = criterion.substring(0, criterion.length() - 1);
+        return prefix.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+    }
+}
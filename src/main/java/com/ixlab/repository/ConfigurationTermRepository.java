@@ -0,0 +1,27 @@
+package com.ixlab.repository;
+
+import com.ixlab.domain.ConfigurationTerm;
+import com.ixlab.metrics.Measured;
+import io.micronaut.data.annotation.Query;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.repository.CrudRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@Measured("buildbag.repository")
+public interface ConfigurationTermRepository extends CrudRepository<ConfigurationTerm, Long> {
+
+    void deleteByConfigurationId(Long configurationId);
+
+    void deleteByConfigurationIdIn(Collection<Long> configurationIds);
+
+    /**
+     * Configurations after {@code afterId} that have no indexed terms yet, for backfilling.
+     */
+    @Query("SELECT c.id FROM ConfigurationFile c WHERE c.id > :afterId AND NOT EXISTS " +
+           "(SELECT t.id FROM ConfigurationTerm t WHERE t.configurationId = c.id) ORDER BY c.id")
+    List<Long> findUnindexedConfigurationIds(Long afterId, Pageable pageable);
+}
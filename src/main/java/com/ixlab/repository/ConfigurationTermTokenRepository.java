@@ -0,0 +1,17 @@
+package com.ixlab.repository;
+
+import com.ixlab.domain.ConfigurationTermToken;
+import com.ixlab.metrics.Measured;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.repository.CrudRepository;
+
+import java.util.Collection;
+
+@Repository
+@Measured("buildbag.repository")
+public interface ConfigurationTermTokenRepository extends CrudRepository<ConfigurationTermToken, Long> {
+
+    void deleteByConfigurationId(Long configurationId);
+
+    void deleteByConfigurationIdIn(Collection<Long> configurationIds);
+}
@@ -0,0 +1,81 @@
+package com.ixlab.repository;
+
+import jakarta.inject.Singleton;
+import org.hibernate.Session;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import javax.persistence.EntityManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Native access to the id generators of the entities mapped with {@code @SequenceGenerator}.
+ * On dialects with sequences they are sequences; on the others, such as the SQL Server
+ * dialect of the {@code sqlserver} profile, Hibernate emulates each one with a one-row table
+ * of the same name whose {@code next_val} column it increments. Either way, the value read
+ * next is the highest id of the block Hibernate takes.
+ * Callers must already be inside a transaction.
+ */
+@Singleton
+public class IdGeneratorRepository {
+
+    private final EntityManager entityManager;
+
+    public IdGeneratorRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * @return the highest id in the table, 0 if it is empty
+     */
+    public long maxId(String table) {
+        Object max = entityManager.createNativeQuery("SELECT MAX(id) FROM " + table).getSingleResult();
+        return max == null ? 0 : ((Number) max).longValue();
+    }
+
+    /**
+     * Makes sure the next value the generator hands out is at least {@code value}. A sequence
+     * is probed with one {@code NEXTVAL}, which is lost, and if behind it takes one step as
+     * large as the gap before going back to {@code increment}.
+     *
+     * @return whether the generator was behind and had to be moved
+     */
+    public boolean advanceTo(String generator, long value, int increment) {
+        Dialect dialect = dialect();
+        if (!dialect.supportsSequences()) {
+            return entityManager.createNativeQuery("UPDATE " + generator + " SET next_val = ? WHERE next_val < ?")
+                .setParameter(1, value)
+                .setParameter(2, value)
+                .executeUpdate() > 0;
+        }
+        long current = nextValue(dialect, generator);
+        if (current + increment >= value) {
+            return false;
+        }
+        setIncrement(generator, value - increment - current);
+        nextValue(dialect, generator);
+        setIncrement(generator, increment);
+        return true;
+    }
+
+    private long nextValue(Dialect dialect, String sequence) {
+        String sql = dialect.getSequenceNextValString(sequence);
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(sql)) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        });
+    }
+
+    private void setIncrement(String sequence, long increment) {
+        entityManager.createNativeQuery("ALTER SEQUENCE " + sequence + " INCREMENT BY " + increment).executeUpdate();
+    }
+
+    private Dialect dialect() {
+        return ((SessionFactoryImplementor) entityManager.unwrap(Session.class).getSessionFactory())
+            .getJdbcServices().getDialect();
+    }
+}
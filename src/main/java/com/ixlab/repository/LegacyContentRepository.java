@@ -0,0 +1,118 @@
+package com.ixlab.repository;
+
+import jakarta.inject.Singleton;
+import org.hibernate.Session;
+
+import javax.persistence.EntityManager;
+import java.sql.Blob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Native access to where earlier schemas kept configuration content: the NOT NULL
+ * {@code configuration_files.content} column, and the {@code configuration_contents} table
+ * that replaced it. Schemas upgraded with {@code schema-generate: UPDATE} still have them,
+ * since Hibernate never drops columns or tables; new schemas have neither.
+ * Callers must already be inside a transaction.
+ */
+@Singleton
+public class LegacyContentRepository {
+
+    private static final String SELECT_FROM_COLUMN =
+        "SELECT id, content FROM configuration_files WHERE content_hash IS NULL AND content IS NOT NULL ORDER BY id";
+
+    private static final String SELECT_FROM_TABLE =
+        "SELECT cc.configuration_id, cc.content FROM configuration_contents cc " +
+        "JOIN configuration_files c ON c.id = cc.configuration_id WHERE c.content_hash IS NULL ORDER BY cc.configuration_id";
+
+    private final EntityManager entityManager;
+
+    public LegacyContentRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public boolean hasContentColumn() {
+        return exists("configuration_files", "content");
+    }
+
+    public boolean hasContentTable() {
+        return exists("configuration_contents", null);
+    }
+
+    /**
+     * Content of configurations that have no content hash yet, from the old column.
+     */
+    public Map<Long, byte[]> findColumnContent(int limit) {
+        return find(SELECT_FROM_COLUMN, limit);
+    }
+
+    /**
+     * Content of configurations that have no content hash yet, from the old table.
+     */
+    public Map<Long, byte[]> findTableContent(int limit) {
+        return find(SELECT_FROM_TABLE, limit);
+    }
+
+    public void setContentHash(Long configurationId, String hash) {
+        entityManager.createNativeQuery("UPDATE configuration_files SET content_hash = ? WHERE id = ?")
+            .setParameter(1, hash)
+            .setParameter(2, configurationId)
+            .executeUpdate();
+    }
+
+    public void dropContentColumn() {
+        entityManager.createNativeQuery("ALTER TABLE configuration_files DROP COLUMN content").executeUpdate();
+    }
+
+    public void dropContentTable() {
+        entityManager.createNativeQuery("DROP TABLE configuration_contents").executeUpdate();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, byte[]> find(String sql, int limit) {
+        List<Object[]> rows = entityManager.createNativeQuery(sql)
+            .setMaxResults(limit)
+            .getResultList();
+        Map<Long, byte[]> contents = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            contents.put(((Number) row[0]).longValue(), bytes(row[1]));
+        }
+        return contents;
+    }
+
+    private static byte[] bytes(Object value) {
+        if (value instanceof byte[]) {
+            return (byte[]) value;
+        }
+        try {
+            Blob blob = (Blob) value;
+            return blob.getBytes(1, (int) blob.length());
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not read legacy content", e);
+        }
+    }
+
+    /**
+     * Looks the table (and column, if given) up in the current schema, in lower and upper
+     * case since databases fold unquoted identifiers differently.
+     */
+    private boolean exists(String table, String column) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection ->
+            matches(connection, table.toLowerCase(), column == null ? null : column.toLowerCase())
+                || matches(connection, table.toUpperCase(), column == null ? null : column.toUpperCase()));
+    }
+
+    private static boolean matches(Connection connection, String table, String column) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet rs = column == null
+                ? metaData.getTables(connection.getCatalog(), connection.getSchema(), table, null)
+                : metaData.getColumns(connection.getCatalog(), connection.getSchema(), table, column)) {
+            return rs.next();
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package com.ixlab.repository;
 
 import com.ixlab.domain.User;
+import com.ixlab.metrics.Measured;
 import io.micronaut.data.annotation.Repository;
 import io.micronaut.data.repository.CrudRepository;
 
 import java.util.Optional;
 
 @Repository
+@Measured("buildbag.repository")
 public interface UserRepository extends CrudRepository<User, Long> {
     Optional<User> findByUsername(String username);
 }
@@ -0,0 +1,20 @@
+package com.ixlab.search;
+
+/**
+ * A property found in a configuration: its JSON Pointer path, key and value as text.
+ */
+public final class PropertyTerm {
+    private final String path;
+    private final String key;
+    private final String value;
+
+    public PropertyTerm(String path, String key, String value) {
+        this.path = path;
+        this.key = key;
+        this.value = value;
+    }
+
+    public String getPath() { return path; }
+    public String getKey() { return key; }
+    public String getValue() { return value; }
+}
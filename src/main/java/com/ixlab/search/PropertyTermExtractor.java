@@ -0,0 +1,104 @@
+package com.ixlab.search;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Extracts the searchable properties of a configuration: every object with a textual
+ * {@code key} (global and domain property definitions, with their {@code default} as
+ * value) and every saved per-domain value in {@code _domainValues}.
+ */
+public final class PropertyTermExtractor {
+
+    static final String DOMAIN_VALUES = "_domainValues";
+    static final int MAX_TOKEN_LENGTH = 100;
+
+    private PropertyTermExtractor() {}
+
+    public static List<PropertyTerm> extract(JsonNode root) {
+        List<PropertyTerm> terms = new ArrayList<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = root.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (!DOMAIN_VALUES.equals(field.getKey())) {
+                walk(field.getValue(), "/" + escape(field.getKey()), terms);
+            }
+        }
+
+        JsonNode domains = root.path(DOMAIN_VALUES);
+        for (int i = 0; i < domains.size(); i++) {
+            String base = "/" + DOMAIN_VALUES + "/" + i + "/properties/";
+            Iterator<Map.Entry<String, JsonNode>> values = domains.get(i).path("properties").fields();
+            while (values.hasNext()) {
+                Map.Entry<String, JsonNode> value = values.next();
+                terms.add(new PropertyTerm(base + escape(value.getKey()), value.getKey(), text(value.getValue())));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Lower-cased tokens of a value, split on anything that cannot be part of a hostname,
+     * identifier or number, so {@code https://db01.corp.local:5432} yields
+     * {@code https}, {@code db01.corp.local} and {@code 5432}.
+     */
+    public static Set<String> tokens(String value) {
+        Set<String> tokens = new LinkedHashSet<>();
+        String normalized = normalize(value);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean part = i < normalized.length() && isTokenChar(normalized.charAt(i));
+            if (part && start < 0) {
+                start = i;
+            } else if (!part && start >= 0) {
+                if (i - start <= MAX_TOKEN_LENGTH) {
+                    tokens.add(normalized.substring(start, i));
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    public static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void walk(JsonNode node, String path, List<PropertyTerm> terms) {
+        if (node.isObject()) {
+            JsonNode key = node.get("key");
+            if (key != null && key.isTextual() && !key.asText().isEmpty()) {
+                terms.add(new PropertyTerm(path, key.asText(), text(node.get("default"))));
+            }
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                walk(field.getValue(), path + "/" + escape(field.getKey()), terms);
+            }
+        } else if (node.isArray()) {
+            for (int i = 0; i < node.size(); i++) {
+                walk(node.get(i), path + "/" + i, terms);
+            }
+        }
+    }
+
+    private static String text(JsonNode node) {
+        if (node == null || node.isNull() || node.isMissingNode()) return "";
+        return node.isValueNode() ? node.asText() : node.toString();
+    }
+
+    private static boolean isTokenChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '.' || c == '-' || c == '_';
+    }
+
+    private static String escape(String token) {
+        return token.replace("~", "~0").replace("/", "~1");
+    }
+}
@@ -0,0 +1,117 @@
+package com.ixlab.security;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Decides whether a request path may be served without authentication. The rules are
+ * compiled once into a set of exact paths, a trie of prefixes walked from the start of the
+ * path and a trie of suffixes walked from its end, so a check reads each character at most
+ * twice and allocates nothing.
+ */
+public final class AnonymousPathMatcher {
+
+    private final Set<String> exact;
+    private final Node prefixes;
+    private final Node suffixes;
+
+    private AnonymousPathMatcher(Set<String> exact, Node prefixes, Node suffixes) {
+        this.exact = exact;
+        this.prefixes = prefixes;
+        this.suffixes = suffixes;
+    }
+
+    public static AnonymousPathMatcher compile(Collection<String> exact,
+                                               Collection<String> prefixes,
+                                               Collection<String> suffixes) {
+        Builder prefixTrie = new Builder();
+        for (String prefix : prefixes) {
+            prefixTrie.add(prefix, false);
+        }
+        Builder suffixTrie = new Builder();
+        for (String suffix : suffixes) {
+            suffixTrie.add(suffix, true);
+        }
+        return new AnonymousPathMatcher(new HashSet<>(exact), prefixTrie.build(), suffixTrie.build());
+    }
+
+    public boolean matches(String path) {
+        return exact.contains(path) || prefixes.matches(path, false) || suffixes.matches(path, true);
+    }
+
+    /**
+     * Immutable trie node. Children are few (path characters diverge quickly), so they are
+     * kept in parallel arrays and scanned linearly.
+     */
+    private static final class Node {
+        private final boolean terminal;
+        private final char[] labels;
+        private final Node[] children;
+
+        Node(boolean terminal, char[] labels, Node[] children) {
+            this.terminal = terminal;
+            this.labels = labels;
+            this.children = children;
+        }
+
+        /**
+         * @return whether some rule in this trie is a prefix of {@code path} (or, reversed, a suffix)
+         */
+        boolean matches(String path, boolean reversed) {
+            Node node = this;
+            int length = path.length();
+            for (int i = 0; ; i++) {
+                if (node.terminal) return true;
+                if (i == length) return false;
+                node = node.child(path.charAt(reversed ? length - 1 - i : i));
+                if (node == null) return false;
+            }
+        }
+
+        private Node child(char c) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == c) return children[i];
+            }
+            return null;
+        }
+    }
+
+    private static final class Builder {
+        private boolean terminal;
+        private final List<Character> labels = new ArrayList<>();
+        private final List<Builder> children = new ArrayList<>();
+
+        void add(String rule, boolean reversed) {
+            // An empty prefix or suffix would open every path
+            if (rule == null || rule.isEmpty()) return;
+            Builder node = this;
+            int length = rule.length();
+            for (int i = 0; i < length; i++) {
+                node = node.childFor(rule.charAt(reversed ? length - 1 - i : i));
+            }
+            node.terminal = true;
+        }
+
+        private Builder childFor(char c) {
+            int index = labels.indexOf(c);
+            if (index >= 0) return children.get(index);
+            Builder child = new Builder();
+            labels.add(c);
+            children.add(child);
+            return child;
+        }
+
+        Node build() {
+            char[] chars = new char[labels.size()];
+            Node[] nodes = new Node[children.size()];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = labels.get(i);
+                nodes[i] = children.get(i).build();
+            }
+            return new Node(terminal, chars, nodes);
+        }
+    }
+}
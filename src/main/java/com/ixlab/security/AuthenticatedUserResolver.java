@@ -0,0 +1,72 @@
+package com.ixlab.security;
+
+import com.ixlab.cache.WeightedLruCache;
+import com.ixlab.repository.UserRepository;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.security.authentication.Authentication;
+import io.micronaut.security.utils.SecurityService;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Resolves the numeric id of the authenticated user. Tokens issued by {@code AuthController}
+ * carry it in the {@value #USER_ID_CLAIM} claim; older tokens without it fall back to a
+ * username lookup that is cached for a short time.
+ */
+@Singleton
+public class AuthenticatedUserResolver {
+
+    public static final String USER_ID_CLAIM = "uid";
+
+    private final SecurityService securityService;
+    private final UserRepository userRepo;
+    private final long ttlMillis;
+    private final WeightedLruCache<String, CachedId> legacyIds;
+
+    public AuthenticatedUserResolver(SecurityService securityService,
+                                     UserRepository userRepo,
+                                     @Value("${buildbag.security.user-id-cache.ttl:5m}") Duration ttl,
+                                     @Value("${buildbag.security.user-id-cache.max-entries:10000}") long maxEntries) {
+        this.securityService = securityService;
+        this.userRepo = userRepo;
+        this.ttlMillis = ttl.toMillis();
+        this.legacyIds = new WeightedLruCache<>(maxEntries, e -> 1);
+    }
+
+    public Optional<Long> currentUserId() {
+        return securityService.getAuthentication().flatMap(this::userId);
+    }
+
+    public WeightedLruCache<String, ?> stats() {
+        return legacyIds;
+    }
+
+    Optional<Long> userId(Authentication auth) {
+        Object claim = auth.getAttributes().get(USER_ID_CLAIM);
+        if (claim instanceof Number) {
+            return Optional.of(((Number) claim).longValue());
+        }
+
+        String username = auth.getName();
+        long now = System.currentTimeMillis();
+        CachedId cached = legacyIds.get(username, e -> e.expiresAt > now);
+        if (cached != null) {
+            return Optional.of(cached.id);
+        }
+        Optional<Long> id = userRepo.findByUsername(username).map(u -> u.getId());
+        id.ifPresent(value -> legacyIds.put(username, new CachedId(value, now + ttlMillis)));
+        return id;
+    }
+
+    private static final class CachedId {
+        final long id;
+        final long expiresAt;
+
+        CachedId(long id, long expiresAt) {
+            this.id = id;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
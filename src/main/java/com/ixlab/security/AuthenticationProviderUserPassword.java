@@ -2,13 +2,14 @@ package com.ixlab.security;
 
 import com.ixlab.service.UserService;
 import io.micronaut.security.authentication.*;
-import io.micronaut.core.async.publisher.Publishers;
 import io.micronaut.http.HttpRequest;
 import jakarta.inject.Singleton;
 
 import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
 
 import java.util.Collections;
+import java.util.concurrent.RejectedExecutionException;
 
 @Singleton
 public class AuthenticationProviderUserPassword implements AuthenticationProvider {
@@ -25,10 +26,12 @@ public class AuthenticationProviderUserPassword implements AuthenticationProvide
 		String identity = (String) authenticationRequest.getIdentity();
         String secret = (String) authenticationRequest.getSecret();
 
-        if (userService.authenticate(identity, secret).isPresent()) {
-            return Publishers.just(AuthenticationResponse.success(identity, Collections.emptyList()));
-        } else {
-            return Publishers.just(new AuthenticationFailed());
-        }
+        // BCrypt runs on the dedicated pool, never on the event loop
+        return Mono.fromFuture(userService.authenticateAsync(identity, secret))
+            .map(user -> user.isPresent()
+                ? AuthenticationResponse.success(identity, Collections.emptyList())
+                : new AuthenticationFailed())
+            .onErrorResume(RejectedExecutionException.class,
+                e -> Mono.just(new AuthenticationFailed("Too many authentication requests, retry later")));
 	}
 }
@@ -0,0 +1,89 @@
+package com.ixlab.security;
+
+import com.ixlab.cache.WeightedLruCache;
+import com.ixlab.util.Hashes;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.security.authentication.Authentication;
+import io.micronaut.security.token.jwt.validator.JwtTokenValidator;
+import io.micronaut.security.token.validator.TokenValidator;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+/**
+ * Remembers bearer tokens that micronaut-security-jwt's {@link JwtTokenValidator} accepted,
+ * keyed by the SHA-256 of the token, until their {@code exp}. It runs before that validator,
+ * so a client repeating a token skips the signature check and the claims parsing on every
+ * request; other tokens are passed to it and cached if valid. Tokens without an expiry are
+ * not cached, and a rejected token is checked once more by the JWT validator itself, which
+ * only costs requests that fail anyway.
+ */
+@Singleton
+public class CachingTokenValidator implements TokenValidator {
+
+    private static final String EXPIRATION_CLAIM = "exp";
+
+    private final JwtTokenValidator delegate;
+    private final WeightedLruCache<String, VerifiedToken> verified;
+
+    public CachingTokenValidator(JwtTokenValidator delegate,
+                                 @Value("${buildbag.security.jwt-cache.max-entries:10000}") long maxEntries) {
+        this.delegate = delegate;
+        this.verified = new WeightedLruCache<>(maxEntries, t -> 1);
+    }
+
+    @Override
+    public Publisher<Authentication> validateToken(String token, @Nullable HttpRequest<?> request) {
+        String tokenHash = Hashes.sha256(token.getBytes(StandardCharsets.UTF_8));
+        long now = System.currentTimeMillis();
+        VerifiedToken cached = verified.get(tokenHash, t -> t.expiresAt > now);
+        if (cached != null) {
+            return Mono.just(cached.authentication);
+        }
+        return Mono.from(delegate.validateToken(token, request))
+            .doOnNext(authentication -> {
+                long expiresAt = expiresAt(authentication);
+                if (expiresAt > 0) {
+                    verified.put(tokenHash, new VerifiedToken(authentication, expiresAt));
+                }
+            });
+    }
+
+    @Override
+    public int getOrder() {
+        return delegate.getOrder() - 1;
+    }
+
+    public WeightedLruCache<String, ?> stats() {
+        return verified;
+    }
+
+    /**
+     * @return epoch millis of the {@code exp} claim, 0 without one
+     */
+    private static long expiresAt(Authentication authentication) {
+        Object exp = authentication.getAttributes().get(EXPIRATION_CLAIM);
+        if (exp instanceof Date) {
+            return ((Date) exp).getTime();
+        }
+        if (exp instanceof Number) {
+            return ((Number) exp).longValue() * 1000;
+        }
+        return 0;
+    }
+
+    private static final class VerifiedToken {
+        final Authentication authentication;
+        final long expiresAt;
+
+        VerifiedToken(Authentication authentication, long expiresAt) {
+            this.authentication = authentication;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.ixlab.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.context.annotation.Value;
+import javax.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import org.mindrot.jbcrypt.BCrypt;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt hashing on a dedicated, bounded pool so that password checks never run on
+ * the Netty event loop. When the queue is full, work is rejected immediately and
+ * callers answer 429 instead of piling up.
+ */
+@Singleton
+public class PasswordHasher {
+
+    private final int cost;
+    private final ThreadPoolExecutor executor;
+    private final Timer hashTimer;
+    private final Timer verifyTimer;
+    private final Counter rejections;
+
+    public PasswordHasher(@Value("${buildbag.security.bcrypt.cost:10}") int cost,
+                          @Value("${buildbag.security.bcrypt.threads:0}") int threads,
+                          @Value("${buildbag.security.bcrypt.queue-size:64}") int queueSize,
+                          MeterRegistry registry) {
+        this.cost = cost;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), new BcryptThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.hashTimer = Timer.builder("buildbag.bcrypt").tag("operation", "hash").register(registry);
+        this.verifyTimer = Timer.builder("buildbag.bcrypt").tag("operation", "verify").register(registry);
+        this.rejections = Counter.builder("buildbag.bcrypt.rejected")
+            .description("Password tasks refused because the BCrypt queue was full").register(registry);
+        Gauge.builder("buildbag.bcrypt.queue", executor, e -> e.getQueue().size()).register(registry);
+        Gauge.builder("buildbag.bcrypt.active", executor, ThreadPoolExecutor::getActiveCount).register(registry);
+    }
+
+    /**
+     * Runs a password-related task on the BCrypt pool. The returned future fails with
+     * {@link RejectedExecutionException} when the pool is saturated.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            CompletableFuture<T> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    public String hash(String password) {
+        return hashTimer.record(() -> BCrypt.hashpw(password, BCrypt.gensalt(cost)));
+    }
+
+    public boolean matches(String password, String hash) {
+        long start = System.nanoTime();
+        try {
+            return BCrypt.checkpw(password, hash);
+        } finally {
+            verifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * True when the stored hash was produced with a different cost factor than the configured one.
+     */
+    public boolean needsRehash(String hash) {
+        // Modular crypt format: $2a$NN$...
+        if (hash == null || hash.length() < 7 || hash.charAt(0) != '$' || hash.charAt(3) != '$') {
+            return true;
+        }
+        try {
+            return Integer.parseInt(hash.substring(4, 6)) != cost;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private static final class BcryptThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "bcrypt-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.ixlab.service;
+
+import com.ixlab.domain.ConfigurationBlob;
+import com.ixlab.repository.ConfigurationBlobRepository;
+import jakarta.inject.Singleton;
+
+import javax.transaction.Transactional;
+import java.util.List;
+
+/**
+ * Inserts new blobs in a transaction of their own, so that losing a race to insert the same
+ * content fails only this insert and not the caller's transaction. See
+ * {@link ConfigurationContentStore#acquire(String, byte[])}.
+ */
+@Singleton
+public class ConfigurationBlobInserter {
+
+    private final ConfigurationBlobRepository blobRepo;
+
+    public ConfigurationBlobInserter(ConfigurationBlobRepository blobRepo) {
+        this.blobRepo = blobRepo;
+    }
+
+    /**
+     * @throws RuntimeException if any of the blobs already exists; none of them is inserted then
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void insert(List<ConfigurationBlob> blobs) {
+        blobRepo.saveAll(blobs);
+    }
+}
@@ -0,0 +1,86 @@
+package com.ixlab.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.ixlab.dto.BulkImportResult;
+import com.ixlab.dto.BulkItemResult;
+import com.ixlab.dto.SaveConfigurationRequest;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Reads a JSON array or NDJSON stream of {@link SaveConfigurationRequest}s item by item and
+ * hands them to {@link ConfigurationBulkWriter} in chunks of {@code buildbag.bulk.chunk-size},
+ * one transaction per chunk. Only one chunk is held in memory; a failing chunk is rolled
+ * back and reported item by item without stopping the import.
+ */
+@Singleton
+public class ConfigurationBulkImporter {
+
+    private final ConfigurationBulkWriter writer;
+    private final ObjectReader reader;
+    private final int chunkSize;
+
+    public ConfigurationBulkImporter(ConfigurationBulkWriter writer,
+                                     ObjectMapper objectMapper,
+                                     @Value("${buildbag.bulk.chunk-size:500}") int chunkSize) {
+        this.writer = writer;
+        this.reader = objectMapper.readerFor(SaveConfigurationRequest.class);
+        this.chunkSize = Math.max(chunkSize, 1);
+    }
+
+    public BulkImportResult importAll(InputStream body, Long userId) {
+        // readValues unwraps a top-level array and otherwise reads consecutive root values (NDJSON).
+        try (MappingIterator<SaveConfigurationRequest> items = reader.readValues(body)) {
+            return importItems(items, userId);
+        } catch (IOException e) {
+            return new BulkImportResult(Collections.singletonList(BulkItemResult.failed(0, "Invalid JSON: " + e.getMessage())));
+        }
+    }
+
+    /**
+     * Imports items as the iterator produces them. A {@link RuntimeException} from the
+     * iterator (malformed input) ends the import: what was read so far is still written
+     * and the failure is reported at the position where reading stopped.
+     */
+    public BulkImportResult importItems(Iterator<SaveConfigurationRequest> items, Long userId) {
+        List<BulkItemResult> results = new ArrayList<>();
+        List<SaveConfigurationRequest> chunk = new ArrayList<>(chunkSize);
+        int index = 0;
+        try {
+            while (items.hasNext()) {
+                chunk.add(items.next());
+                index++;
+                if (chunk.size() == chunkSize) {
+                    flush(chunk, index - chunk.size(), userId, results);
+                }
+            }
+        } catch (RuntimeException e) {
+            flush(chunk, index - chunk.size(), userId, results);
+            results.add(BulkItemResult.failed(index, "Invalid input: " + e.getMessage()));
+            return new BulkImportResult(results);
+        }
+        flush(chunk, index - chunk.size(), userId, results);
+        return new BulkImportResult(results);
+    }
+
+    private void flush(List<SaveConfigurationRequest> chunk, int firstIndex, Long userId, List<BulkItemResult> results) {
+        if (chunk.isEmpty()) return;
+        try {
+            results.addAll(writer.write(chunk, firstIndex, userId));
+        } catch (RuntimeException e) {
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(BulkItemResult.failed(firstIndex + i, "Chunk rolled back: " + e.getMessage()));
+            }
+        }
+        chunk.clear();
+    }
+}
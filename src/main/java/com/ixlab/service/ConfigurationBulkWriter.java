@@ -0,0 +1,160 @@
+package com.ixlab.service;
+
+import com.ixlab.domain.Category;
+import com.ixlab.domain.ConfigurationFile;
+import com.ixlab.domain.User;
+import com.ixlab.dto.BulkItemResult;
+import com.ixlab.dto.ConfigurationEvent;
+import com.ixlab.dto.SaveConfigurationRequest;
+import com.ixlab.repository.CategoryRepository;
+import com.ixlab.repository.ConfigurationFileRepository;
+import com.ixlab.repository.UserRepository;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import jakarta.inject.Singleton;
+
+import javax.transaction.Transactional;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes one chunk of a bulk import in its own transaction. Everything that needs a
+ * round trip (user, categories, existing blobs) is resolved once for the chunk; the blob,
+ * revision and search index inserts are then only queued and reach the database as JDBC
+ * batches when the transaction commits. Configurations are inserted one at a time, since
+ * {@code configuration_files} keeps the IDENTITY key that existing schemas were created with.
+ */
+@Singleton
+public class ConfigurationBulkWriter {
+
+    private final ConfigurationFileRepository configRepo;
+    private final ConfigurationContentStore contentStore;
+    private final ConfigurationHistory history;
+    private final ConfigurationSearchIndex searchIndex;
+    private final CategoryRepository categoryRepo;
+    private final UserRepository userRepo;
+    private final ApplicationEventPublisher<ConfigurationEvent> events;
+
+    public ConfigurationBulkWriter(ConfigurationFileRepository configRepo,
+                                   ConfigurationContentStore contentStore,
+                                   ConfigurationHistory history,
+                                   ConfigurationSearchIndex searchIndex,
+                                   CategoryRepository categoryRepo,
+                                   UserRepository userRepo,
+                                   ApplicationEventPublisher<ConfigurationEvent> events) {
+        this.configRepo = configRepo;
+        this.contentStore = contentStore;
+        this.history = history;
+        this.searchIndex = searchIndex;
+        this.categoryRepo = categoryRepo;
+        this.userRepo = userRepo;
+        this.events = events;
+    }
+
+    /**
+     * @param firstIndex position of {@code chunk.get(0)} in the whole import, used in the results
+     */
+    @Transactional
+    public List<BulkItemResult> write(List<SaveConfigurationRequest> chunk, int firstIndex, Long userId) {
+        User user = userRepo.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
+        Map<Long, Category> categoriesById = new HashMap<>();
+        Map<String, Category> categoriesByName = new HashMap<>();
+        for (Category category : categoryRepo.findByOwnerId(userId)) {
+            categoriesById.put(category.getId(), category);
+            categoriesByName.putIfAbsent(category.getName(), category);
+        }
+
+        List<BulkItemResult> results = new ArrayList<>(chunk.size());
+        List<ConfigurationFile> configs = new ArrayList<>(chunk.size());
+        List<byte[]> contents = new ArrayList<>(chunk.size());
+        Map<String, byte[]> contentByHash = new HashMap<>();
+        Map<String, Long> references = new HashMap<>();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            SaveConfigurationRequest request = chunk.get(i);
+            String error = validate(request);
+            Category category = null;
+            if (error == null) {
+                if (request.getCategoryId() != null) {
+                    category = categoriesById.get(request.getCategoryId());
+                    if (category == null) error = "Category not found";
+                } else {
+                    String name = request.getCategoryName().trim();
+                    category = categoriesByName.get(name);
+                    if (category == null) {
+                        category = categoryRepo.save(new Category(name, user));
+                        categoriesById.put(category.getId(), category);
+                        categoriesByName.put(name, category);
+                    }
+                }
+            }
+            if (error != null) {
+                results.add(BulkItemResult.failed(firstIndex + i, error));
+                configs.add(null);
+                contents.add(null);
+                continue;
+            }
+
+            byte[] content = request.getJson().getBytes(StandardCharsets.UTF_8);
+            String hash = ConfigurationContentStore.hash(content);
+            contentByHash.putIfAbsent(hash, content);
+            references.merge(hash, 1L, Long::sum);
+
+            ConfigurationFile config = new ConfigurationFile();
+            config.setName(request.getName());
+            config.setSubcategory(request.getSubcategory());
+            config.setOwner(user);
+            config.setCategory(category);
+            config.setContentHash(hash);
+            configs.add(config);
+            contents.add(content);
+            results.add(null);
+        }
+
+        contentStore.acquireAll(contentByHash, references);
+        for (int i = 0; i < configs.size(); i++) {
+            ConfigurationFile config = configs.get(i);
+            if (config == null) continue;
+            configRepo.save(config);
+            history.record(config.getId(), null, config.getContentHash(), contents.get(i));
+            searchIndex.index(config.getId(), userId, contents.get(i));
+            events.publishEvent(ConfigurationChangeFeed.event(ConfigurationEvent.CREATED, config));
+            results.set(i, BulkItemResult.created(firstIndex + i, config.getId()));
+        }
+        return results;
+    }
+
+    /**
+     * Creates the named categories the user does not have yet, e.g. empty categories of a restored workspace.
+     */
+    @Transactional
+    public void createCategories(Collection<String> names, Long userId) {
+        if (names.isEmpty()) return;
+        User user = userRepo.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
+        Set<String> existing = new HashSet<>();
+        for (Category category : categoryRepo.findByOwnerId(userId)) {
+            existing.add(category.getName());
+        }
+        for (String name : names) {
+            if (name != null && !name.trim().isEmpty() && existing.add(name.trim())) {
+                categoryRepo.save(new Category(name.trim(), user));
+            }
+        }
+    }
+
+    private static String validate(SaveConfigurationRequest request) {
+        if (request == null) return "Empty item";
+        if (request.getName() == null || request.getName().trim().isEmpty()) return "Name is required";
+        if (request.getJson() == null) return "JSON content is required";
+        if (request.getCategoryId() == null
+                && (request.getCategoryName() == null || request.getCategoryName().trim().isEmpty())) {
+            return "Category ID or name is required";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,144 @@
+package com.ixlab.service;
+
+import com.ixlab.domain.ConfigurationFile;
+import com.ixlab.dto.ChangeBatch;
+import com.ixlab.dto.ConfigurationEvent;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.transaction.annotation.TransactionalEventListener;
+import jakarta.inject.Singleton;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * In-memory feed of committed configuration changes. {@link ConfigurationService} and the
+ * bulk writer publish {@link ConfigurationEvent}s inside their transaction; they reach the
+ * feed only once it commits, and get the next version number then.
+ * <p>
+ * Versions are contiguous within a server run and start at the startup time in milliseconds,
+ * so a cursor from an earlier run is always recognised as stale. The last
+ * {@code buildbag.changes.buffer-size} events are kept for watchers that reconnect with a
+ * cursor; anyone further behind gets a {@link ConfigurationEvent#RESET} and must reload.
+ * Watchers are plain subscriptions on a replay sink, so an idle one costs no thread.
+ */
+@Singleton
+public class ConfigurationChangeFeed {
+
+    private final Object lock = new Object();
+    private final int capacity;
+    private final ArrayDeque<ConfigurationEvent> recent;
+    private final Sinks.Many<ConfigurationEvent> sink;
+    private long version;
+    private long evicted;
+
+    public ConfigurationChangeFeed(@Value("${buildbag.changes.buffer-size:1024}") int capacity) {
+        this.capacity = capacity;
+        this.recent = new ArrayDeque<>(capacity);
+        this.sink = Sinks.many().replay().limit(capacity);
+        this.version = System.currentTimeMillis();
+        this.evicted = version;
+    }
+
+    @TransactionalEventListener
+    public void onCommit(ConfigurationEvent event) {
+        synchronized (lock) {
+            ConfigurationEvent versioned = event.withVersion(++version);
+            if (recent.size() == capacity) {
+                evicted = recent.removeFirst().getVersion();
+            }
+            recent.addLast(versioned);
+            // Emitting under the lock keeps the sink serialized, so this never fails
+            sink.tryEmitNext(versioned);
+        }
+    }
+
+    public long currentVersion() {
+        synchronized (lock) {
+            return version;
+        }
+    }
+
+    /**
+     * Changes of the owner's configurations after the given version, then live ones as they
+     * commit. Without a cursor only live changes are sent; with one that can no longer be
+     * resumed the stream starts with a reset event. A subscriber that stops reading for
+     * {@code buffer-size} events is failed rather than buffered without bound.
+     */
+    public Flux<ConfigurationEvent> watch(Long ownerId, @Nullable Long after) {
+        return Flux.defer(() -> {
+            ConfigurationEvent reset = null;
+            long from;
+            synchronized (lock) {
+                if (after != null && !resumable(after)) {
+                    reset = resetEvent(version);
+                }
+                from = after == null || reset != null ? version : after;
+            }
+            Flux<ConfigurationEvent> changes = changesAfter(ownerId, from).onBackpressureBuffer(capacity);
+            return reset == null ? changes : Flux.just(reset).concatWith(changes);
+        });
+    }
+
+    /**
+     * Waits up to {@code timeout} for changes of the owner's configurations after the given
+     * version and returns all of them at once. Without a cursor it answers immediately with
+     * the current version, which the client then polls from.
+     */
+    public Mono<ChangeBatch> poll(Long ownerId, @Nullable Long after, Duration timeout) {
+        if (after == null) {
+            return Mono.fromCallable(() -> new ChangeBatch(currentVersion(), false, Collections.emptyList()));
+        }
+        return Mono.defer(() -> {
+            ChangeBatch pending = batch(ownerId, after);
+            if (pending.isReset() || !pending.getEvents().isEmpty()) {
+                return Mono.just(pending);
+            }
+            return changesAfter(ownerId, after).next()
+                .map(first -> batch(ownerId, after))
+                .timeout(timeout, Mono.fromCallable(() -> batch(ownerId, after)));
+        });
+    }
+
+    static ConfigurationEvent event(String type, ConfigurationFile config) {
+        return new ConfigurationEvent(type, config.getId(), config.getName(),
+            config.getCategory() != null ? config.getCategory().getId() : null,
+            config.getSubcategory(), config.getContentHash(), config.getOwner().getId());
+    }
+
+    private Flux<ConfigurationEvent> changesAfter(Long ownerId, long after) {
+        return sink.asFlux().filter(e -> e.getVersion() > after && ownerId.equals(e.getOwnerId()));
+    }
+
+    private ChangeBatch batch(Long ownerId, long after) {
+        synchronized (lock) {
+            if (!resumable(after)) {
+                return new ChangeBatch(version, true, Collections.emptyList());
+            }
+            List<ConfigurationEvent> events = new ArrayList<>();
+            for (ConfigurationEvent event : recent) {
+                if (event.getVersion() > after && ownerId.equals(event.getOwnerId())) {
+                    events.add(event);
+                }
+            }
+            // Every change of this owner up to the current version is in the list, so the
+            // cursor can skip past other owners' changes too
+            return new ChangeBatch(version, false, events);
+        }
+    }
+
+    private boolean resumable(long after) {
+        return after >= evicted && after <= version;
+    }
+
+    private static ConfigurationEvent resetEvent(long version) {
+        return new ConfigurationEvent(ConfigurationEvent.RESET, null, null, null, null, null, null)
+            .withVersion(version);
+    }
+}
@@ -0,0 +1,13 @@
+package com.ixlab.service;
+
+/**
+ * A configuration was changed by someone else between being read and being written:
+ * either it no longer has the version the caller expected, or a concurrent update
+ * committed first. Nothing was written.
+ */
+public class ConfigurationConflictException extends RuntimeException {
+
+    public ConfigurationConflictException(Long configId) {
+        super("Configuration " + configId + " was modified concurrently");
+    }
+}
@@ -0,0 +1,39 @@
+package com.ixlab.service;
+
+import com.ixlab.cache.WeightedLruCache;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Singleton;
+
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of stored configuration content, keyed by content hash. Blobs are
+ * immutable once written, so entries never go stale and writes need no invalidation.
+ */
+@Singleton
+public class ConfigurationContentCache {
+
+    private final WeightedLruCache<String, byte[]> cache;
+
+    public ConfigurationContentCache(@Value("${buildbag.cache.content.max-bytes:67108864}") long maxBytes) {
+        this.cache = new WeightedLruCache<>(maxBytes, content -> content.length);
+    }
+
+    public byte[] get(String hash, Supplier<byte[]> loader) {
+        byte[] content = cache.get(hash);
+        if (content != null) {
+            return content;
+        }
+        content = loader.get();
+        cache.put(hash, content);
+        return content;
+    }
+
+    public void invalidate(String hash) {
+        cache.invalidate(hash);
+    }
+
+    public WeightedLruCache<String, byte[]> stats() {
+        return cache;
+    }
+}
@@ -0,0 +1,177 @@
+package com.ixlab.service;
+
+import com.ixlab.codec.ContentCodecs;
+import com.ixlab.domain.ConfigurationBlob;
+import com.ixlab.repository.ConfigurationBlobRepository;
+import com.ixlab.util.Hashes;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Content-addressed, reference-counted storage of configuration payloads. Identical
+ * payloads are stored once; configurations only keep the SHA-256 hash of the raw bytes.
+ * Blobs are written through {@link ContentCodecs}, so the stored form is compressed.
+ * Payload sizes read and written, and the stored size of new blobs, are recorded as
+ * {@code buildbag.content.size} / {@code buildbag.content.stored.size} distributions.
+ * Callers must already be inside a transaction.
+ */
+@Singleton
+public class ConfigurationContentStore {
+
+    private static final int MAX_INSERT_ATTEMPTS = 3;
+
+    private final ConfigurationBlobRepository blobRepo;
+    private final ConfigurationBlobInserter inserter;
+    private final ConfigurationContentCache cache;
+    private final ContentCodecs codecs;
+    private final DistributionSummary readSizes;
+    private final DistributionSummary writeSizes;
+    private final DistributionSummary storedSizes;
+
+    public ConfigurationContentStore(ConfigurationBlobRepository blobRepo,
+                                     ConfigurationBlobInserter inserter,
+                                     ConfigurationContentCache cache,
+                                     ContentCodecs codecs,
+                                     MeterRegistry registry) {
+        this.blobRepo = blobRepo;
+        this.inserter = inserter;
+        this.cache = cache;
+        this.codecs = codecs;
+        this.readSizes = sizes(registry, "buildbag.content.size", "read");
+        this.writeSizes = sizes(registry, "buildbag.content.size", "write");
+        this.storedSizes = sizes(registry, "buildbag.content.stored.size", "write");
+    }
+
+    /**
+     * Adds a reference to the given content, writing the blob only if no identical content exists.
+     *
+     * @return the content hash to store on the configuration
+     */
+    public String acquire(byte[] content) {
+        return acquire(hash(content), content);
+    }
+
+    /**
+     * Same as {@link #acquire(byte[])} when the caller already computed the hash.
+     * <p>
+     * A new blob is inserted with no references by {@link ConfigurationBlobInserter}, in its
+     * own transaction, and the reference is then added in the caller's transaction like for an
+     * existing blob. Two transactions storing the same new content both try the insert; the
+     * one that loses the race skips it instead of failing on the primary key. If the caller
+     * rolls back, the unreferenced blob stays and is reused by the next writer of that content.
+     */
+    public String acquire(String hash, byte[] content) {
+        writeSizes.record(content.length);
+        reference(hash, content, 1);
+        return hash;
+    }
+
+    /**
+     * Batch form of {@link #acquire(String, byte[])}: one lookup for the whole batch, and all
+     * new blobs inserted together in one transaction so the inserts stay JDBC-batched.
+     *
+     * @param references number of new references per hash; every key must be present in {@code contents}
+     */
+    public void acquireAll(Map<String, byte[]> contents, Map<String, Long> references) {
+        if (references.isEmpty()) return;
+        for (Map.Entry<String, Long> ref : references.entrySet()) {
+            int size = contents.get(ref.getKey()).length;
+            for (long i = 0; i < ref.getValue(); i++) {
+                writeSizes.record(size);
+            }
+        }
+        Set<String> existing = new HashSet<>(blobRepo.findHashByHashIn(references.keySet()));
+        List<ConfigurationBlob> missing = new ArrayList<>();
+        for (String hash : references.keySet()) {
+            if (!existing.contains(hash)) {
+                missing.add(newBlob(hash, contents.get(hash)));
+            }
+        }
+        insert(missing);
+        for (Map.Entry<String, Long> ref : references.entrySet()) {
+            reference(ref.getKey(), contents.get(ref.getKey()), ref.getValue());
+        }
+    }
+
+    private void reference(String hash, byte[] content, long references) {
+        for (int attempt = 1; blobRepo.updateRefCount(hash, references) == 0; attempt++) {
+            // Not there, or deleted by a release between our insert and this update
+            if (attempt > MAX_INSERT_ATTEMPTS) {
+                throw new IllegalStateException("Could not store content " + hash);
+            }
+            insert(Collections.singletonList(newBlob(hash, content)));
+        }
+    }
+
+    private void insert(List<ConfigurationBlob> blobs) {
+        if (blobs.isEmpty()) return;
+        try {
+            inserter.insert(blobs);
+        } catch (RuntimeException e) {
+            if (blobs.size() > 1) {
+                // Some other transaction inserted one of them first: retry one by one
+                for (ConfigurationBlob blob : blobs) {
+                    insert(Collections.singletonList(blob));
+                }
+            } else if (!blobRepo.existsById(blobs.get(0).getHash())) {
+                throw e;
+            }
+        }
+    }
+
+    private ConfigurationBlob newBlob(String hash, byte[] content) {
+        ConfigurationBlob blob = new ConfigurationBlob(hash, encode(content));
+        blob.setRefCount(0);
+        return blob;
+    }
+
+    public void release(String hash) {
+        release(hash, 1);
+    }
+
+    public void release(String hash, long references) {
+        if (hash == null || references <= 0) return;
+        blobRepo.updateRefCount(hash, -references);
+        blobRepo.deleteByHashAndRefCountLessThanEquals(hash, 0);
+    }
+
+    /**
+     * @throws IllegalStateException if there is no hash or no blob for it; every configuration
+     *         has content, so either means the content was lost, and must not read as empty
+     */
+    public byte[] load(String hash) {
+        if (hash == null) {
+            throw new IllegalStateException("Configuration has no content hash");
+        }
+        byte[] content = cache.get(hash, () -> blobRepo.findById(hash)
+            .map(blob -> codecs.decode(blob.getContent()))
+            .orElseThrow(() -> new IllegalStateException("No stored content for hash " + hash)));
+        readSizes.record(content.length);
+        return content;
+    }
+
+    private byte[] encode(byte[] content) {
+        byte[] stored = codecs.encode(content);
+        storedSizes.record(stored.length);
+        return stored;
+    }
+
+    private static DistributionSummary sizes(MeterRegistry registry, String name, String operation) {
+        return DistributionSummary.builder(name)
+            .baseUnit("bytes")
+            .tag("operation", operation)
+            .register(registry);
+    }
+
+    public static String hash(byte[] content) {
+        return Hashes.sha256(content);
+    }
+}
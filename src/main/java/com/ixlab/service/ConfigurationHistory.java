@@ -0,0 +1,139 @@
+package com.ixlab.service;
+
+import com.ixlab.codec.ContentCodecs;
+import com.ixlab.delta.BinaryDelta;
+import com.ixlab.domain.ConfigurationRevision;
+import com.ixlab.dto.RevisionSummary;
+import com.ixlab.repository.ConfigurationRevisionRepository;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Singleton;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Append-only revision history of configuration content. Each change is stored as a
+ * delta against the previous revision; a full snapshot is written every
+ * {@code snapshotInterval} revisions, or whenever the delta would not be smaller than
+ * the compressed content, so reconstructing any revision applies a bounded number of
+ * deltas. Callers must already be inside a transaction.
+ */
+@Singleton
+public class ConfigurationHistory {
+
+    private final ConfigurationRevisionRepository revisionRepo;
+    private final ConfigurationContentStore contentStore;
+    private final ContentCodecs codecs;
+    private final int snapshotInterval;
+
+    public ConfigurationHistory(ConfigurationRevisionRepository revisionRepo,
+                                ConfigurationContentStore contentStore,
+                                ContentCodecs codecs,
+                                @Value("${buildbag.history.snapshot-interval:16}") int snapshotInterval) {
+        this.revisionRepo = revisionRepo;
+        this.contentStore = contentStore;
+        this.codecs = codecs;
+        this.snapshotInterval = Math.max(snapshotInterval, 1);
+    }
+
+    /**
+     * Appends a revision for new content. Must run before {@code previousHash} is released,
+     * since the previous content is the base of the delta, and while holding the row lock of
+     * the configuration (see {@code ConfigurationService}), since the next revision number is
+     * read from the latest one.
+     *
+     * @param previousHash content hash the configuration had before the change, {@code null} on creation
+     */
+    public void record(Long configurationId, String previousHash, String hash, byte[] content) {
+        if (previousHash == null) {
+            // New configuration: nothing to look up, so bulk imports only queue inserts.
+            revisionRepo.save(snapshot(configurationId, 1, hash, content));
+            return;
+        }
+        Optional<RevisionSummary> latest = revisionRepo.findTopByConfigurationIdOrderByRevisionDesc(configurationId);
+        if (!latest.isPresent()) {
+            // Configuration created before history existed: its current content becomes revision 1.
+            byte[] previous = contentStore.load(previousHash);
+            revisionRepo.save(snapshot(configurationId, 1, previousHash, previous));
+            RevisionSummary initial = new RevisionSummary();
+            initial.setRevision(1);
+            initial.setSnapshotRevision(1);
+            initial.setContentHash(previousHash);
+            latest = Optional.of(initial);
+        }
+
+        RevisionSummary last = latest.get();
+        if (hash.equals(last.getContentHash())) {
+            return;
+        }
+        int next = last.getRevision() + 1;
+        boolean chainIntact = last.getContentHash().equals(previousHash);
+        if (!chainIntact || next - last.getSnapshotRevision() >= snapshotInterval) {
+            revisionRepo.save(snapshot(configurationId, next, hash, content));
+            return;
+        }
+
+        byte[] delta = BinaryDelta.encode(contentStore.load(previousHash), content);
+        byte[] snapshot = codecs.encode(content);
+        if (delta.length >= snapshot.length) {
+            revisionRepo.save(revision(configurationId, next, next, hash, content.length, snapshot));
+        } else {
+            revisionRepo.save(revision(configurationId, next, last.getSnapshotRevision(), hash, content.length, delta));
+        }
+    }
+
+    public List<RevisionSummary> list(Long configurationId) {
+        return revisionRepo.findByConfigurationIdOrderByRevisionDesc(configurationId);
+    }
+
+    public Optional<RevisionSummary> find(Long configurationId, int revision) {
+        return revisionRepo.findByConfigurationIdAndRevision(configurationId, revision);
+    }
+
+    /**
+     * Rebuilds the content of a revision from its snapshot and the deltas that follow it.
+     */
+    public Optional<byte[]> content(Long configurationId, int revision) {
+        Optional<RevisionSummary> target = find(configurationId, revision);
+        if (!target.isPresent()) {
+            return Optional.empty();
+        }
+        List<ConfigurationRevision> chain = revisionRepo.findByConfigurationIdAndRevisionBetweenOrderByRevision(
+            configurationId, target.get().getSnapshotRevision(), revision);
+        byte[] content = codecs.decode(chain.get(0).getData());
+        for (int i = 1; i < chain.size(); i++) {
+            content = BinaryDelta.apply(content, chain.get(i).getData());
+        }
+        if (!ConfigurationContentStore.hash(content).equals(target.get().getContentHash())) {
+            throw new IllegalStateException("Revision " + revision + " of configuration " + configurationId + " is corrupt");
+        }
+        return Optional.of(content);
+    }
+
+    public void delete(Long configurationId) {
+        revisionRepo.deleteByConfigurationId(configurationId);
+    }
+
+    public void delete(Collection<Long> configurationIds) {
+        if (!configurationIds.isEmpty()) {
+            revisionRepo.deleteByConfigurationIdIn(configurationIds);
+        }
+    }
+
+    private ConfigurationRevision snapshot(Long configurationId, int revision, String hash, byte[] content) {
+        return revision(configurationId, revision, revision, hash, content.length, codecs.encode(content));
+    }
+
+    private static ConfigurationRevision revision(Long configurationId, int revision, int snapshotRevision,
+                                                  String hash, int contentSize, byte[] data) {
+        ConfigurationRevision r = new ConfigurationRevision();
+        r.setConfigurationId(configurationId);
+        r.setRevision(revision);
+        r.setSnapshotRevision(snapshotRevision);
+        r.setContentHash(hash);
+        r.setContentSize(contentSize);
+        r.setData(data);
+        return r;
+    }
+}
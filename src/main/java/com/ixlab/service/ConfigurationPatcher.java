@@ -0,0 +1,82 @@
+package com.ixlab.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ixlab.delta.PropertyMergePatch;
+import com.ixlab.dto.ConfigurationDto;
+import com.ixlab.dto.ConfigurationVersion;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.annotation.Nullable;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+
+/**
+ * Applies JSON merge patches to the content of a configuration, with properties addressed by
+ * key ({@link PropertyMergePatch}). Each attempt reads the current version and content,
+ * merges the patch and writes the result only if the version is unchanged. When another
+ * update got in between the patch is merged again onto the new content, up to
+ * {@code buildbag.patch.max-attempts} times, so concurrent patches of different members or
+ * properties all land. A caller that pinned a version is never retried.
+ * <p>
+ * Not transactional itself: every attempt is a new read and a new write transaction.
+ */
+@Singleton
+public class ConfigurationPatcher {
+
+    private final ConfigurationService configService;
+    private final ObjectMapper objectMapper;
+    private final int maxAttempts;
+
+    public ConfigurationPatcher(ConfigurationService configService,
+                                ObjectMapper objectMapper,
+                                @Value("${buildbag.patch.max-attempts:5}") int maxAttempts) {
+        this.configService = configService;
+        this.objectMapper = objectMapper;
+        this.maxAttempts = Math.max(maxAttempts, 1);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the stored content is not JSON, or the patch does not fit it
+     * @throws ConfigurationConflictException if the configuration is not at {@code expectedVersion},
+     *         or kept changing for every attempt
+     */
+    public ConfigurationDto patch(Long configId, JsonNode patch, Long userId, @Nullable Long expectedVersion) {
+        for (int attempt = 1; ; attempt++) {
+            ConfigurationVersion current = configService.getVersion(configId, userId)
+                .orElseThrow(() -> new RuntimeException("Configuration not found"));
+            if (expectedVersion != null && !expectedVersion.equals(current.getVersion())) {
+                throw new ConfigurationConflictException(configId);
+            }
+            byte[] content = configService.getContent(configId, userId)
+                .orElseThrow(() -> new RuntimeException("Configuration not found"));
+            // The content was read after the version, so if the version is still current
+            // at write time this is the content it belongs to
+            JsonNode merged = PropertyMergePatch.apply(parse(content), patch.deepCopy());
+            try {
+                return configService.updateContent(configId, serialize(merged), userId, current.getVersion());
+            } catch (ConfigurationConflictException e) {
+                if (expectedVersion != null || attempt >= maxAttempts) throw e;
+            }
+        }
+    }
+
+    private JsonNode parse(byte[] content) {
+        try {
+            JsonNode node = objectMapper.readTree(content);
+            if (node == null || node.isMissingNode()) throw new IllegalArgumentException("Stored content is empty");
+            return node;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Stored content is not valid JSON", e);
+        }
+    }
+
+    private byte[] serialize(JsonNode node) {
+        try {
+            return objectMapper.writeValueAsBytes(node);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.ixlab.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ixlab.delta.JsonDiff;
+import com.ixlab.dto.RevisionDiff;
+import com.ixlab.dto.RevisionDto;
+import com.ixlab.dto.RevisionSummary;
+import com.ixlab.repository.ConfigurationFileRepository;
+import jakarta.inject.Singleton;
+
+import javax.transaction.Transactional;
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Read side of the configuration history: listing, fetching and diffing revisions.
+ * Rollback changes the configuration and lives in {@link ConfigurationService}.
+ */
+@Singleton
+@Transactional
+public class ConfigurationRevisionService {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final ConfigurationFileRepository configRepo;
+    private final ConfigurationHistory history;
+    private final ObjectMapper objectMapper;
+
+    public ConfigurationRevisionService(ConfigurationFileRepository configRepo,
+                                        ConfigurationHistory history,
+                                        ObjectMapper objectMapper) {
+        this.configRepo = configRepo;
+        this.history = history;
+        this.objectMapper = objectMapper;
+    }
+
+    public Optional<List<RevisionDto>> getRevisions(Long configId, Long userId) {
+        if (!isOwner(configId, userId)) {
+            return Optional.empty();
+        }
+        return Optional.of(history.list(configId)
+            .stream()
+            .map(this::toRevisionDto)
+            .collect(Collectors.toList()));
+    }
+
+    public Optional<RevisionDto> getRevision(Long configId, int revision, Long userId) {
+        if (!isOwner(configId, userId)) {
+            return Optional.empty();
+        }
+        return history.find(configId, revision).map(summary -> {
+            RevisionDto dto = toRevisionDto(summary);
+            byte[] content = history.content(configId, revision).orElse(new byte[0]);
+            dto.setContentBase64(Base64.getEncoder().encodeToString(content));
+            return dto;
+        });
+    }
+
+    /**
+     * JSON diff between two revisions, from {@code from} to {@code to}.
+     */
+    public Optional<RevisionDiff> diff(Long configId, int from, int to, Long userId) {
+        if (!isOwner(configId, userId)) {
+            return Optional.empty();
+        }
+        Optional<byte[]> before = history.content(configId, from);
+        Optional<byte[]> after = history.content(configId, to);
+        if (!before.isPresent() || !after.isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(new RevisionDiff(from, to, JsonDiff.diff(readTree(before.get()), readTree(after.get()))));
+    }
+
+    private boolean isOwner(Long configId, Long userId) {
+        return configRepo.findVersion(configId, userId).isPresent();
+    }
+
+    private JsonNode readTree(byte[] content) {
+        try {
+            return objectMapper.readTree(content);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Revision content is not valid JSON", e);
+        }
+    }
+
+    private RevisionDto toRevisionDto(RevisionSummary summary) {
+        RevisionDto dto = new RevisionDto();
+        dto.setRevision(summary.getRevision());
+        dto.setContentHash(summary.getContentHash());
+        dto.setContentSize(summary.getContentSize());
+        dto.setSnapshot(summary.getRevision().equals(summary.getSnapshotRevision()));
+        if (summary.getCreatedAt() != null) {
+            dto.setCreatedAt(summary.getCreatedAt().format(DATE_FORMATTER));
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,110 @@
+package com.ixlab.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ixlab.domain.ConfigurationTerm;
+import com.ixlab.domain.ConfigurationTermToken;
+import com.ixlab.dto.SearchHit;
+import com.ixlab.repository.ConfigurationSearchRepository;
+import com.ixlab.repository.ConfigurationTermRepository;
+import com.ixlab.repository.ConfigurationTermTokenRepository;
+import com.ixlab.search.PropertyTerm;
+import com.ixlab.search.PropertyTermExtractor;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.transaction.Transactional;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Inverted index of property keys and values, kept in step with configuration content by
+ * {@link ConfigurationService} and the bulk writer. A configuration's terms are replaced
+ * as a whole when its content changes and removed with it. Callers of the write methods
+ * must already be inside a transaction.
+ */
+@Singleton
+public class ConfigurationSearchIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConfigurationSearchIndex.class);
+
+    private final ConfigurationTermRepository termRepo;
+    private final ConfigurationTermTokenRepository tokenRepo;
+    private final ConfigurationSearchRepository searchRepo;
+    private final ObjectMapper objectMapper;
+
+    public ConfigurationSearchIndex(ConfigurationTermRepository termRepo,
+                                    ConfigurationTermTokenRepository tokenRepo,
+                                    ConfigurationSearchRepository searchRepo,
+                                    ObjectMapper objectMapper) {
+        this.termRepo = termRepo;
+        this.tokenRepo = tokenRepo;
+        this.searchRepo = searchRepo;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Indexes a configuration that has no terms yet. Only queues inserts, so it batches.
+     */
+    public void index(Long configurationId, Long ownerId, byte[] content) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(content);
+        } catch (IOException e) {
+            LOG.debug("Configuration {} is not JSON, not indexed: {}", configurationId, e.getMessage());
+            return;
+        }
+        if (root == null || !root.isObject()) return;
+
+        for (PropertyTerm property : PropertyTermExtractor.extract(root)) {
+            ConfigurationTerm term = new ConfigurationTerm();
+            term.setConfigurationId(configurationId);
+            term.setOwnerId(ownerId);
+            term.setPath(cap(property.getPath(), 500));
+            term.setPropertyKey(cap(property.getKey(), ConfigurationTerm.MAX_NORM_LENGTH));
+            term.setPropertyValue(cap(property.getValue(), ConfigurationTerm.MAX_VALUE_LENGTH));
+            term.setKeyNorm(cap(PropertyTermExtractor.normalize(property.getKey()), ConfigurationTerm.MAX_NORM_LENGTH));
+            term.setValueNorm(cap(PropertyTermExtractor.normalize(property.getValue()), ConfigurationTerm.MAX_NORM_LENGTH));
+            termRepo.save(term);
+            for (String token : PropertyTermExtractor.tokens(property.getValue())) {
+                tokenRepo.save(new ConfigurationTermToken(term.getId(), configurationId, ownerId, token));
+            }
+        }
+    }
+
+    public void reindex(Long configurationId, Long ownerId, byte[] content) {
+        remove(configurationId);
+        index(configurationId, ownerId, content);
+    }
+
+    public void remove(Long configurationId) {
+        tokenRepo.deleteByConfigurationId(configurationId);
+        termRepo.deleteByConfigurationId(configurationId);
+    }
+
+    public void remove(Collection<Long> configurationIds) {
+        if (configurationIds.isEmpty()) return;
+        tokenRepo.deleteByConfigurationIdIn(configurationIds);
+        termRepo.deleteByConfigurationIdIn(configurationIds);
+    }
+
+    /**
+     * @param key   property key, exact or prefix ending in {@code *}; case-insensitive
+     * @param value property value or word of it, exact or prefix ending in {@code *}; case-insensitive
+     */
+    @Transactional
+    public List<SearchHit> search(Long ownerId, String key, String value, int limit) {
+        return searchRepo.search(ownerId, criterion(key), criterion(value), limit);
+    }
+
+    private static String criterion(String raw) {
+        String normalized = PropertyTermExtractor.normalize(raw);
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    private static String cap(String s, int max) {
+        return s.length() <= max ? s : s.substring(0, max);
+    }
+}
@@ -5,49 +5,103 @@ import com.ixlab.domain.ConfigurationFile;
 import com.ixlab.domain.User;
 import com.ixlab.dto.CategoryDto;
 import com.ixlab.dto.ConfigurationDto;
+import com.ixlab.dto.ConfigurationEvent;
+import com.ixlab.dto.ConfigurationFilter;
+import com.ixlab.dto.ConfigurationPage;
+import com.ixlab.dto.ConfigurationSummary;
+import com.ixlab.dto.ConfigurationVersion;
 import com.ixlab.dto.SaveConfigurationRequest;
+import com.ixlab.metrics.Measured;
+import com.ixlab.render.PropertiesRenderer;
 import com.ixlab.repository.CategoryRepository;
 import com.ixlab.repository.ConfigurationFileRepository;
+import com.ixlab.repository.ConfigurationListingRepository;
 import com.ixlab.repository.UserRepository;
 
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.runtime.event.annotation.EventListener;
 import jakarta.inject.Singleton;
+import org.hibernate.StaleStateException;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.OptimisticLockException;
 import javax.transaction.Transactional;
 import java.nio.charset.StandardCharsets;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Singleton
+@Measured("buildbag.service")
 @Transactional
 public class ConfigurationService {
 
     private final ConfigurationFileRepository configRepo;
+    private final ConfigurationListingRepository listingRepo;
+    private final ConfigurationContentStore contentStore;
+    private final ConfigurationHistory history;
+    private final ConfigurationSearchIndex searchIndex;
     private final CategoryRepository categoryRepo;
     private final UserRepository userRepo;
+    private final PropertiesRenderer propertiesRenderer;
+    private final ApplicationEventPublisher<ConfigurationEvent> events;
+    private final EntityManager entityManager;
     
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     public ConfigurationService(ConfigurationFileRepository configRepo, 
+                                ConfigurationListingRepository listingRepo,
+                                ConfigurationContentStore contentStore,
+                                ConfigurationHistory history,
+                                ConfigurationSearchIndex searchIndex,
                                 CategoryRepository categoryRepo,
-                                UserRepository userRepo) {
+                                UserRepository userRepo,
+                                PropertiesRenderer propertiesRenderer,
+                                ApplicationEventPublisher<ConfigurationEvent> events,
+                                EntityManager entityManager) {
         this.configRepo = configRepo;
+        this.listingRepo = listingRepo;
+        this.contentStore = contentStore;
+        this.history = history;
+        this.searchIndex = searchIndex;
         this.categoryRepo = categoryRepo;
         this.userRepo = userRepo;
+        this.propertiesRenderer = propertiesRenderer;
+        this.events = events;
+        this.entityManager = entityManager;
+    }
+
+    @EventListener
+    public void initializeVersions(StartupEvent event) {
+        configRepo.updateMissingVersions();
     }
 
     public List<CategoryDto> getCategoriesWithConfigurations(Long userId) {
-        List<Category> categories = categoryRepo.findByOwnerId(userId);
-        return categories.stream().map(cat -> {
+        // Two statements regardless of how many categories the user has:
+        // one for the categories, one for the metadata of all their configurations.
+        Map<Long, CategoryDto> byId = new LinkedHashMap<>();
+        for (Category cat : categoryRepo.findByOwnerIdOrderById(userId)) {
             CategoryDto dto = new CategoryDto(cat.getId(), cat.getName());
-            List<ConfigurationDto> configs = configRepo.findByCategoryId(cat.getId())
-                .stream()
-                .map(this::toConfigurationDto)
-                .collect(Collectors.toList());
-            dto.setConfigurations(configs);
-            return dto;
-        }).collect(Collectors.toList());
+            dto.setConfigurations(new ArrayList<>());
+            byId.put(cat.getId(), dto);
+        }
+        for (ConfigurationSummary summary : configRepo.findSummariesByOwnerId(userId)) {
+            CategoryDto dto = byId.get(summary.getCategoryId());
+            if (dto != null) {
+                dto.getConfigurations().add(toConfigurationDto(summary));
+            }
+        }
+        return new ArrayList<>(byId.values());
     }
 
     public List<CategoryDto> getCategories(Long userId) {
@@ -58,15 +112,74 @@ public class ConfigurationService {
     }
 
     public List<ConfigurationDto> getConfigurations(Long userId) {
-        return configRepo.findByOwnerId(userId)
+        return configRepo.findSummariesByOwnerId(userId)
             .stream()
             .map(this::toConfigurationDto)
             .collect(Collectors.toList());
     }
 
+    /**
+     * Filtered listing. With a limit, returns one keyset page and the cursor of the next one
+     * ({@code null} on the last page).
+     */
+    public ConfigurationPage getConfigurations(Long userId, ConfigurationFilter filter) {
+        List<ConfigurationSummary> rows = listingRepo.find(userId, filter);
+        String nextCursor = null;
+        if (filter.getLimit() != null) {
+            int limit = Math.min(Math.max(filter.getLimit(), 1), ConfigurationListingRepository.MAX_LIMIT);
+            if (rows.size() > limit) {
+                rows = rows.subList(0, limit);
+                nextCursor = listingRepo.cursorAfter(rows.get(limit - 1), filter);
+            }
+        }
+        List<ConfigurationDto> items = rows.stream()
+            .map(this::toConfigurationDto)
+            .collect(Collectors.toList());
+        return new ConfigurationPage(items, nextCursor);
+    }
+
     public Optional<ConfigurationDto> getConfiguration(Long configId, Long userId) {
         return configRepo.findByIdAndOwnerId(configId, userId)
-            .map(this::toConfigurationDtoWithContent);
+            .map(cf -> toConfigurationDtoWithContent(cf, readContent(cf)));
+    }
+
+    /**
+     * Content hash and last update of a configuration, for cache validators. Never reads the content.
+     */
+    public Optional<ConfigurationVersion> getVersion(Long configId, Long userId) {
+        return configRepo.findVersion(configId, userId);
+    }
+
+    /**
+     * Raw stored bytes of a configuration, without the Base64 wrapping of {@link #getConfiguration}.
+     */
+    public Optional<byte[]> getContent(Long configId, Long userId) {
+        return configRepo.findByIdAndOwnerId(configId, userId).map(this::readContent);
+    }
+
+    /**
+     * Renders the stored configuration as {@code .properties} text. The content is only
+     * read when the compiled template for this version is not cached yet.
+     */
+    public Optional<String> renderProperties(Long configId, Long userId) {
+        return configRepo.findByIdAndOwnerId(configId, userId)
+            .map(cf -> propertiesRenderer.render(cf.getId(), cf.getUpdatedAt(), () -> readContent(cf)));
+    }
+
+    /**
+     * Replaces the content if the configuration is still at {@code expectedVersion} (any
+     * version when null).
+     *
+     * @throws ConfigurationConflictException if it is not, or a concurrent update wins
+     */
+    public ConfigurationDto updateContent(Long configId, byte[] content, Long userId, @Nullable Long expectedVersion) {
+        ConfigurationFile config = lockForWrite(configId, userId);
+        checkVersion(config, expectedVersion);
+        if (replaceContent(config, content)) {
+            write(config);
+            events.publishEvent(ConfigurationChangeFeed.event(ConfigurationEvent.UPDATED, config));
+        }
+        return toConfigurationDto(config);
     }
 
     public Category createCategory(String name, Long userId) {
@@ -95,18 +208,28 @@ public class ConfigurationService {
         ConfigurationFile config = new ConfigurationFile();
         config.setName(request.getName());
         config.setSubcategory(request.getSubcategory());
-        config.setContent(request.getJson().getBytes(StandardCharsets.UTF_8));
         config.setOwner(user);
         config.setCategory(category);
+        byte[] content = request.getJson().getBytes(StandardCharsets.UTF_8);
+        config.setContentHash(contentStore.acquire(content));
         
         configRepo.save(config);
+        history.record(config.getId(), null, config.getContentHash(), content);
+        searchIndex.index(config.getId(), userId, content);
+        events.publishEvent(ConfigurationChangeFeed.event(ConfigurationEvent.CREATED, config));
         
         return toConfigurationDto(config);
     }
 
-    public ConfigurationDto updateConfiguration(Long configId, SaveConfigurationRequest request, Long userId) {
-        ConfigurationFile config = configRepo.findByIdAndOwnerId(configId, userId)
-            .orElseThrow(() -> new RuntimeException("Configuration not found"));
+    /**
+     * Updates the configuration if it is still at {@code expectedVersion} (any version when null).
+     *
+     * @throws ConfigurationConflictException if it is not, or a concurrent update wins
+     */
+    public ConfigurationDto updateConfiguration(Long configId, SaveConfigurationRequest request, Long userId,
+                                                @Nullable Long expectedVersion) {
+        ConfigurationFile config = lockForWrite(configId, userId);
+        checkVersion(config, expectedVersion);
         
         if (request.getName() != null) {
             config.setName(request.getName());
@@ -114,16 +237,17 @@ public class ConfigurationService {
         if (request.getSubcategory() != null) {
             config.setSubcategory(request.getSubcategory());
         }
-        if (request.getJson() != null) {
-            config.setContent(request.getJson().getBytes(StandardCharsets.UTF_8));
-        }
         if (request.getCategoryId() != null) {
             Category category = categoryRepo.findById(request.getCategoryId())
                 .orElseThrow(() -> new RuntimeException("Category not found"));
             config.setCategory(category);
         }
+        if (request.getJson() != null) {
+            replaceContent(config, request.getJson().getBytes(StandardCharsets.UTF_8));
+        }
         
-        configRepo.update(config);
+        write(config);
+        events.publishEvent(ConfigurationChangeFeed.event(ConfigurationEvent.UPDATED, config));
         
         return toConfigurationDto(config);
     }
@@ -132,16 +256,104 @@ public class ConfigurationService {
         ConfigurationFile config = configRepo.findByIdAndOwnerId(configId, userId)
             .orElseThrow(() -> new RuntimeException("Configuration not found"));
         configRepo.delete(config);
+        contentStore.release(config.getContentHash());
+        history.delete(config.getId());
+        searchIndex.remove(config.getId());
+        propertiesRenderer.evict(config.getId());
+        events.publishEvent(ConfigurationChangeFeed.event(ConfigurationEvent.DELETED, config));
     }
 
     public void deleteCategory(Long categoryId, Long userId) {
         Category category = categoryRepo.findById(categoryId)
             .filter(c -> c.getOwner().getId().equals(userId))
             .orElseThrow(() -> new RuntimeException("Category not found"));
+        List<Long> configIds = configRepo.findIdByCategoryId(categoryId);
+        Map<String, Long> references = configRepo.findContentHashByCategoryId(categoryId)
+            .stream()
+            .filter(Objects::nonNull)
+            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
         categoryRepo.delete(category);
+        references.forEach(contentStore::release);
+        history.delete(configIds);
+        searchIndex.remove(configIds);
+        configIds.forEach(propertiesRenderer::evict);
+        for (Long configId : configIds) {
+            events.publishEvent(new ConfigurationEvent(ConfigurationEvent.DELETED, configId, null, categoryId, null, null, userId));
+        }
+    }
+
+    /**
+     * Restores the content of an earlier revision. History stays append-only: the
+     * restored content is recorded as a new revision.
+     */
+    public ConfigurationDto rollback(Long configId, int revision, Long userId) {
+        ConfigurationFile config = lockForWrite(configId, userId);
+        byte[] content = history.content(configId, revision)
+            .orElseThrow(() -> new RuntimeException("Revision not found"));
+        if (replaceContent(config, content)) {
+            write(config);
+            events.publishEvent(ConfigurationChangeFeed.event(ConfigurationEvent.UPDATED, config));
+        }
+        return toConfigurationDto(config);
+    }
+
+    /**
+     * Loads the configuration and locks its row until commit, re-reading it so that an update
+     * committed while waiting for the lock is seen. Writers of one configuration thus run one
+     * after the other: the version check and the next revision number are computed from the
+     * state being replaced, instead of two writers numbering the same revision and the loser
+     * failing on the revision's unique key before its version is ever compared.
+     */
+    private ConfigurationFile lockForWrite(Long configId, Long userId) {
+        ConfigurationFile config = configRepo.findByIdAndOwnerId(configId, userId)
+            .orElseThrow(() -> new RuntimeException("Configuration not found"));
+        entityManager.refresh(config, LockModeType.PESSIMISTIC_WRITE);
+        return config;
+    }
+
+    private static void checkVersion(ConfigurationFile config, @Nullable Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(config.getVersion())) {
+            throw new ConfigurationConflictException(config.getId());
+        }
+    }
+
+    /**
+     * Flushes the update now rather than at commit, so a stale version fails here as a
+     * {@link ConfigurationConflictException} and the returned DTO carries the new version.
+     */
+    private void write(ConfigurationFile config) {
+        configRepo.update(config);
+        try {
+            configRepo.flush();
+        } catch (OptimisticLockException | StaleStateException e) {
+            throw new ConfigurationConflictException(config.getId());
+        }
+    }
+
+    /**
+     * Points the configuration at the given content, records a revision and reindexes it.
+     * Identical bytes are a no-op: nothing is written and the configuration is left untouched.
+     *
+     * @return whether the content changed
+     */
+    private boolean replaceContent(ConfigurationFile config, byte[] content) {
+        String hash = ConfigurationContentStore.hash(content);
+        if (hash.equals(config.getContentHash())) {
+            return false;
+        }
+        String previous = config.getContentHash();
+        config.setContentHash(contentStore.acquire(hash, content));
+        history.record(config.getId(), previous, hash, content);
+        searchIndex.reindex(config.getId(), config.getOwner().getId(), content);
+        contentStore.release(previous);
+        return true;
+    }
+
+    private byte[] readContent(ConfigurationFile cf) {
+        return contentStore.load(cf.getContentHash());
     }
 
-    private ConfigurationDto toConfigurationDto(ConfigurationFile cf) {
+    ConfigurationDto toConfigurationDto(ConfigurationFile cf) {
         ConfigurationDto dto = new ConfigurationDto();
         dto.setId(cf.getId());
         dto.setName(cf.getName());
@@ -156,12 +368,29 @@ public class ConfigurationService {
         if (cf.getUpdatedAt() != null) {
             dto.setUpdatedAt(cf.getUpdatedAt().format(DATE_FORMATTER));
         }
+        dto.setVersion(cf.getVersion());
+        return dto;
+    }
+
+    ConfigurationDto toConfigurationDto(ConfigurationSummary summary) {
+        ConfigurationDto dto = new ConfigurationDto();
+        dto.setId(summary.getId());
+        dto.setName(summary.getName());
+        dto.setSubcategory(summary.getSubcategory());
+        dto.setCategoryId(summary.getCategoryId());
+        dto.setCategoryName(summary.getCategoryName());
+        if (summary.getCreatedAt() != null) {
+            dto.setCreatedAt(summary.getCreatedAt().format(DATE_FORMATTER));
+        }
+        if (summary.getUpdatedAt() != null) {
+            dto.setUpdatedAt(summary.getUpdatedAt().format(DATE_FORMATTER));
+        }
         return dto;
     }
 
-    private ConfigurationDto toConfigurationDtoWithContent(ConfigurationFile cf) {
+    ConfigurationDto toConfigurationDtoWithContent(ConfigurationFile cf, byte[] content) {
         ConfigurationDto dto = toConfigurationDto(cf);
-        dto.setContentBase64(Base64.getEncoder().encodeToString(cf.getContent()));
+        dto.setContentBase64(Base64.getEncoder().encodeToString(content));
         return dto;
     }
 }
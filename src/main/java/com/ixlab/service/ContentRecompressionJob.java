@@ -0,0 +1,96 @@
+package com.ixlab.service;
+
+import com.ixlab.codec.ContentCodecs;
+import com.ixlab.domain.ConfigurationBlob;
+import com.ixlab.repository.ConfigurationBlobRepository;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.transaction.Transactional;
+import java.util.List;
+
+/**
+ * Rewrites blobs stored before compression existed (or with another codec) using the
+ * configured codec. Each run handles one batch, walking the table by hash so that a
+ * large backlog is spread over several runs. New blobs are always written with the
+ * configured codec, so once a full pass rewrites nothing the job goes idle until the
+ * next restart.
+ */
+@Singleton
+@Requires(property = "buildbag.storage.recompress.enabled", notEquals = "false")
+public class ContentRecompressionJob {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ContentRecompressionJob.class);
+
+    private final ConfigurationBlobRepository blobRepo;
+    private final ContentCodecs codecs;
+    private final int batchSize;
+    private String cursor = "";
+    private int rewrittenInPass;
+    private boolean done;
+
+    public ContentRecompressionJob(ConfigurationBlobRepository blobRepo,
+                                   ContentCodecs codecs,
+                                   @Value("${buildbag.storage.recompress.batch-size:100}") int batchSize) {
+        this.blobRepo = blobRepo;
+        this.codecs = codecs;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelay = "${buildbag.storage.recompress.interval:10m}", initialDelay = "1m")
+    @Transactional
+    public synchronized void recompressBatch() {
+        if (done) return;
+        List<String> hashes = blobRepo.findHashByHashGreaterThanOrderByHash(cursor, Pageable.from(0, batchSize));
+        if (hashes.isEmpty()) {
+            done = rewrittenInPass == 0;
+            cursor = "";
+            rewrittenInPass = 0;
+            return;
+        }
+        int rewritten = 0;
+        for (String hash : hashes) {
+            ConfigurationBlob blob = blobRepo.findById(hash).orElse(null);
+            if (blob == null || codecs.isCurrent(blob.getContent())) continue;
+            byte[] raw = raw(blob);
+            if (raw == null) {
+                LOG.warn("Stored content of blob {} does not match its hash, leaving it as is", hash);
+                continue;
+            }
+            blob.setContent(codecs.encode(raw));
+            blobRepo.update(blob);
+            rewritten++;
+        }
+        cursor = hashes.get(hashes.size() - 1);
+        rewrittenInPass += rewritten;
+        if (rewritten > 0) {
+            LOG.info("Recompressed {} configuration blobs with codec {}", rewritten, codecs.current().name());
+        }
+    }
+
+    /**
+     * The content a blob holds, told apart by its hash: either the stored bytes decoded with
+     * the codec of their header, or, for blobs written before codecs existed, the stored bytes
+     * themselves. Checking both also covers unframed content that happens to start with a
+     * codec id.
+     *
+     * @return {@code null} if neither matches the hash
+     */
+    private byte[] raw(ConfigurationBlob blob) {
+        byte[] stored = blob.getContent();
+        if (codecs.isFramed(stored)) {
+            try {
+                byte[] decoded = codecs.decode(stored);
+                if (ConfigurationContentStore.hash(decoded).equals(blob.getHash())) return decoded;
+            } catch (RuntimeException e) {
+                // Not actually framed: fall through to the unframed check
+            }
+        }
+        return ConfigurationContentStore.hash(stored).equals(blob.getHash()) ? stored : null;
+    }
+}
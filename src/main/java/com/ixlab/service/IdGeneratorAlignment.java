@@ -0,0 +1,57 @@
+package com.ixlab.service;
+
+import com.ixlab.repository.IdGeneratorRepository;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.runtime.event.annotation.EventListener;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.transaction.Transactional;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Moves the id generators past the ids already in their tables at startup, before any
+ * insert. Hibernate creates a missing generator starting at 1 whatever the table holds, so
+ * on a schema upgraded with {@code schema-generate: UPDATE} from when these tables had
+ * IDENTITY keys, or with rows copied in with their ids, the first inserts would collide.
+ */
+@Singleton
+public class IdGeneratorAlignment {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IdGeneratorAlignment.class);
+
+    /** The {@code allocationSize} of the {@code @SequenceGenerator}s below. */
+    static final int ALLOCATION_SIZE = 50;
+
+    private static final Map<String, String> GENERATORS = new LinkedHashMap<>();
+
+    static {
+        GENERATORS.put("configuration_revisions", "configuration_revisions_seq");
+        GENERATORS.put("configuration_terms", "configuration_terms_seq");
+        GENERATORS.put("configuration_term_tokens", "configuration_term_tokens_seq");
+    }
+
+    private final IdGeneratorRepository generatorRepo;
+
+    public IdGeneratorAlignment(IdGeneratorRepository generatorRepo) {
+        this.generatorRepo = generatorRepo;
+    }
+
+    @EventListener
+    public void onStartup(StartupEvent event) {
+        align();
+    }
+
+    @Transactional
+    public void align() {
+        for (Map.Entry<String, String> generator : GENERATORS.entrySet()) {
+            long maxId = generatorRepo.maxId(generator.getKey());
+            // Hibernate takes the block of ids ending at the value it reads
+            if (maxId > 0 && generatorRepo.advanceTo(generator.getValue(), maxId + ALLOCATION_SIZE, ALLOCATION_SIZE)) {
+                LOG.info("Moved {} past the ids in {} (max {})", generator.getValue(), generator.getKey(), maxId);
+            }
+        }
+    }
+}
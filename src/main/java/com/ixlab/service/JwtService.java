@@ -1,18 +1,46 @@
 package com.ixlab.service;
 
+import com.ixlab.cache.WeightedLruCache;
+import com.ixlab.util.Hashes;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
 
+/**
+ * Issues and verifies HS256 tokens. Verification uses one immutable (thread-safe) parser,
+ * and tokens that passed it are remembered by SHA-256 until their {@code exp}, so a client
+ * repeating the same bearer token skips the HMAC and the claims parsing.
+ * <p>
+ * Requests are not authenticated here but by micronaut-security-jwt, with the same caching
+ * in {@link com.ixlab.security.CachingTokenValidator}.
+ */
 @Singleton
 public class JwtService {
 
+    static final long DEFAULT_MAX_CACHED_TOKENS = 10000;
+
     private final Key key = Keys.hmacShaKeyFor("replace-with-long-secret-change-this-please".getBytes());
     private final long expirationSeconds = 3600;
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(key).build();
+    private final WeightedLruCache<String, VerifiedToken> verified;
+
+    public JwtService() {
+        this(DEFAULT_MAX_CACHED_TOKENS);
+    }
+
+    @Inject
+    public JwtService(@Value("${buildbag.security.jwt-cache.max-entries:10000}") long maxCachedTokens) {
+        this.verified = new WeightedLruCache<>(maxCachedTokens, t -> 1);
+    }
 
     public String generateToken(String username) {
         Date now = new Date();
@@ -26,11 +54,39 @@ public class JwtService {
     }
 
     public String validateAndGetSubject(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        String tokenHash = Hashes.sha256(token.getBytes(StandardCharsets.UTF_8));
+        long now = System.currentTimeMillis();
+        VerifiedToken cached = verified.get(tokenHash, t -> t.expiresAt > now);
+        if (cached != null) {
+            return cached.subject;
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        // Tokens without an expiry are not remembered: nothing would ever evict them but size
+        if (claims.getExpiration() != null) {
+            verified.put(tokenHash, new VerifiedToken(claims.getSubject(), claims.getExpiration().getTime()));
+        }
+        return claims.getSubject();
+    }
+
+    /**
+     * Full signature and claims check, bypassing the cache.
+     */
+    String verify(String token) {
+        return parser.parseClaimsJws(token).getBody().getSubject();
+    }
+
+    public WeightedLruCache<String, ?> stats() {
+        return verified;
+    }
+
+    private static final class VerifiedToken {
+        final String subject;
+        final long expiresAt;
+
+        VerifiedToken(String subject, long expiresAt) {
+            this.subject = subject;
+            this.expiresAt = expiresAt;
+        }
     }
 }
@@ -0,0 +1,87 @@
+package com.ixlab.service;
+
+import com.ixlab.repository.LegacyContentRepository;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.runtime.event.annotation.EventListener;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.transaction.Transactional;
+import java.util.Map;
+
+/**
+ * Moves content stored by earlier schemas into {@code configuration_blobs} at startup,
+ * before any request is served. Each configuration without a content hash gets the hash of
+ * its old content, from {@code configuration_contents} or else from the
+ * {@code configuration_files.content} column; once nothing is left both are dropped, so new
+ * inserts no longer fail on the NOT NULL column. Does nothing on schemas without them.
+ */
+@Singleton
+public class LegacyContentMigration {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LegacyContentMigration.class);
+
+    private final LegacyContentRepository legacyRepo;
+    private final ConfigurationContentStore contentStore;
+    private final int batchSize;
+
+    public LegacyContentMigration(LegacyContentRepository legacyRepo,
+                                  ConfigurationContentStore contentStore,
+                                  @Value("${buildbag.storage.migration.batch-size:200}") int batchSize) {
+        this.legacyRepo = legacyRepo;
+        this.contentStore = contentStore;
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    @EventListener
+    public void onStartup(StartupEvent event) {
+        migrate();
+    }
+
+    public void migrate() {
+        int migrated = 0;
+        for (int batch; (batch = migrateBatch()) > 0; ) {
+            migrated += batch;
+        }
+        if (migrated > 0) {
+            LOG.info("Moved the content of {} configurations to configuration_blobs", migrated);
+        }
+        dropLegacyStorage();
+    }
+
+    /**
+     * @return number of configurations migrated; 0 once none is left
+     */
+    @Transactional
+    public int migrateBatch() {
+        if (legacyRepo.hasContentTable()) {
+            Map<Long, byte[]> contents = legacyRepo.findTableContent(batchSize);
+            if (!contents.isEmpty()) return migrate(contents);
+        }
+        if (legacyRepo.hasContentColumn()) {
+            return migrate(legacyRepo.findColumnContent(batchSize));
+        }
+        return 0;
+    }
+
+    @Transactional
+    public void dropLegacyStorage() {
+        if (legacyRepo.hasContentTable()) {
+            legacyRepo.dropContentTable();
+            LOG.info("Dropped legacy table configuration_contents");
+        }
+        if (legacyRepo.hasContentColumn()) {
+            legacyRepo.dropContentColumn();
+            LOG.info("Dropped legacy column configuration_files.content");
+        }
+    }
+
+    private int migrate(Map<Long, byte[]> contents) {
+        for (Map.Entry<Long, byte[]> entry : contents.entrySet()) {
+            legacyRepo.setContentHash(entry.getKey(), contentStore.acquire(entry.getValue()));
+        }
+        return contents.size();
+    }
+}
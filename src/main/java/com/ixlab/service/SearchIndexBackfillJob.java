@@ -0,0 +1,64 @@
+package com.ixlab.service;
+
+import com.ixlab.domain.ConfigurationFile;
+import com.ixlab.repository.ConfigurationFileRepository;
+import com.ixlab.repository.ConfigurationTermRepository;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.transaction.Transactional;
+import java.util.List;
+
+/**
+ * Indexes configurations stored before the search index existed. Each run handles one
+ * batch, walking configurations by id; once a pass finds nothing left the job goes idle.
+ */
+@Singleton
+@Requires(property = "buildbag.search.backfill.enabled", notEquals = "false")
+public class SearchIndexBackfillJob {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SearchIndexBackfillJob.class);
+
+    private final ConfigurationTermRepository termRepo;
+    private final ConfigurationFileRepository configRepo;
+    private final ConfigurationContentStore contentStore;
+    private final ConfigurationSearchIndex searchIndex;
+    private final int batchSize;
+    private long cursor = 0;
+    private boolean done;
+
+    public SearchIndexBackfillJob(ConfigurationTermRepository termRepo,
+                                  ConfigurationFileRepository configRepo,
+                                  ConfigurationContentStore contentStore,
+                                  ConfigurationSearchIndex searchIndex,
+                                  @Value("${buildbag.search.backfill.batch-size:200}") int batchSize) {
+        this.termRepo = termRepo;
+        this.configRepo = configRepo;
+        this.contentStore = contentStore;
+        this.searchIndex = searchIndex;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelay = "${buildbag.search.backfill.interval:30s}", initialDelay = "30s")
+    @Transactional
+    public synchronized void indexBatch() {
+        if (done) return;
+        List<Long> ids = termRepo.findUnindexedConfigurationIds(cursor, Pageable.from(0, batchSize));
+        if (ids.isEmpty()) {
+            done = true;
+            return;
+        }
+        for (Long id : ids) {
+            ConfigurationFile config = configRepo.findById(id).orElse(null);
+            if (config == null || config.getOwner() == null) continue;
+            searchIndex.index(id, config.getOwner().getId(), contentStore.load(config.getContentHash()));
+        }
+        cursor = ids.get(ids.size() - 1);
+        LOG.info("Indexed {} configurations for search", ids.size());
+    }
+}
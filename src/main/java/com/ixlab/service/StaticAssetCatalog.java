@@ -0,0 +1,190 @@
+package com.ixlab.service;
+
+import com.ixlab.util.Hashes;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.http.MediaType;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The static resources listed in {@code buildbag.assets.files}, loaded once at startup and
+ * published under content-hashed names ({@code config.js} becomes
+ * {@code /static/v/config.1a2b3c4d5e6f.js}), so they can be cached forever by the browser.
+ * <p>
+ * The gzip variant is the {@code .gz} file produced next to the resource by the build; if
+ * it is missing or does not match the resource (e.g. resources edited in an IDE without a
+ * Maven build) the resource is compressed here instead, still only once.
+ */
+@Singleton
+public class StaticAssetCatalog {
+
+    public static final String BASE_PATH = "/static/v";
+    private static final String LOCATION = "static/";
+    private static final int HASH_LENGTH = 12;
+    private static final Logger LOG = LoggerFactory.getLogger(StaticAssetCatalog.class);
+
+    private final Map<String, Asset> byFile = new HashMap<>();
+    private final Map<String, String> urls = new HashMap<>();
+
+    public StaticAssetCatalog(@Value("${buildbag.assets.files:config.js,config.css}") List<String> files) {
+        ClassLoader loader = StaticAssetCatalog.class.getClassLoader();
+        for (String name : files) {
+            byte[] content = read(loader, LOCATION + name);
+            if (content == null) {
+                LOG.warn("Static asset {} not found, it will be served uncompressed from /static/", name);
+                continue;
+            }
+            Asset asset = new Asset(hashedName(name, Hashes.sha256(content)),
+                MediaType.forFilename(name), content, gzip(loader, name, content));
+            byFile.put(asset.getFileName(), asset);
+            urls.put(name, BASE_PATH + "/" + asset.getFileName());
+        }
+    }
+
+    /**
+     * Content-hashed URL of a static resource, for the views. Resources not in the catalog
+     * keep their plain {@code /static/} URL.
+     */
+    public String url(String name) {
+        String url = urls.get(name);
+        return url != null ? url : "/" + LOCATION + name;
+    }
+
+    public Map<String, String> urls() {
+        return Collections.unmodifiableMap(urls);
+    }
+
+    public Asset find(String fileName) {
+        return byFile.get(fileName);
+    }
+
+    /**
+     * Whether an {@code Accept-Encoding} header admits gzip, honouring {@code q=0}.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        boolean wildcard = false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.split(";");
+            String coding = params[0].trim().toLowerCase();
+            boolean refused = false;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim().replace(" ", "");
+                if (param.startsWith("q=")) {
+                    refused = isZero(param.substring(2));
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                return !refused;
+            }
+            if (coding.equals("*")) {
+                wildcard = !refused;
+            }
+        }
+        return wildcard;
+    }
+
+    static String hashedName(String name, String hash) {
+        int slash = name.lastIndexOf('/');
+        int dot = name.lastIndexOf('.');
+        String tag = hash.substring(0, HASH_LENGTH);
+        if (dot <= slash) return name + "." + tag;
+        return name.substring(0, dot) + "." + tag + name.substring(dot);
+    }
+
+    private static boolean isZero(String q) {
+        try {
+            return Double.parseDouble(q) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static byte[] gzip(ClassLoader loader, String name, byte[] content) {
+        byte[] prebuilt = read(loader, LOCATION + name + ".gz");
+        if (prebuilt == null) {
+            LOG.warn("No {}.gz on the classpath (was the build's gzip step skipped?), compressing at startup", name);
+        } else if (Arrays.equals(content, gunzip(prebuilt))) {
+            return smaller(prebuilt, content);
+        } else {
+            LOG.warn("{}.gz on the classpath does not match {}, compressing at startup", name, name);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 3 + 64);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gz.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return smaller(out.toByteArray(), content);
+    }
+
+    private static byte[] smaller(byte[] gzipped, byte[] content) {
+        // Tiny or already compressed files can grow; serve those as they are
+        return gzipped.length < content.length ? gzipped : null;
+    }
+
+    private static byte[] gunzip(byte[] gzipped) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return readAll(in);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static byte[] read(ClassLoader loader, String path) {
+        try (InputStream in = loader.getResourceAsStream(path)) {
+            return in != null ? readAll(in) : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int n;
+        while ((n = in.read(buffer)) != -1) {
+            out.write(buffer, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    public static final class Asset {
+        private final String fileName;
+        private final MediaType mediaType;
+        private final byte[] content;
+        private final byte[] gzipped;
+
+        Asset(String fileName, MediaType mediaType, byte[] content, byte[] gzipped) {
+            this.fileName = fileName;
+            this.mediaType = mediaType;
+            this.content = content;
+            this.gzipped = gzipped;
+        }
+
+        public String getFileName() { return fileName; }
+        public MediaType getMediaType() { return mediaType; }
+        public byte[] getContent() { return content; }
+        /** Gzip encoding of the content, or null when it would not be smaller. */
+        public byte[] getGzipped() { return gzipped; }
+    }
+}
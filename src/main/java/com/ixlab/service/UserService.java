@@ -2,37 +2,55 @@ package com.ixlab.service;
 
 import com.ixlab.domain.User;
 import com.ixlab.repository.UserRepository;
+import com.ixlab.security.PasswordHasher;
 
 import jakarta.inject.Singleton;
 
-import org.mindrot.jbcrypt.BCrypt;
-
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Singleton
 public class UserService {
 
     private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, PasswordHasher passwordHasher) {
         this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
     }
 
     public User register(String username, String password) {
-        String hash = BCrypt.hashpw(password, BCrypt.gensalt());
         User u = new User();
         u.setUsername(username);
-        u.setPasswordHash(hash);
+        u.setPasswordHash(passwordHasher.hash(password));
         return userRepository.save(u);
     }
 
+    public CompletableFuture<User> registerAsync(String username, String password) {
+        return passwordHasher.submit(() -> register(username, password));
+    }
+
     public Optional<User> authenticate(String username, String password) {
         Optional<User> o = userRepository.findByUsername(username);
         if (!o.isPresent()) return Optional.empty();
         User u = o.get();
-        if (BCrypt.checkpw(password, u.getPasswordHash())) {
-            return Optional.of(u);
+        if (!passwordHasher.matches(password, u.getPasswordHash())) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        if (passwordHasher.needsRehash(u.getPasswordHash())) {
+            // Upgrade hashes created with a different cost factor while we have the plain password
+            u.setPasswordHash(passwordHasher.hash(password));
+            userRepository.update(u);
+        }
+        return Optional.of(u);
+    }
+
+    /**
+     * Same as {@link #authenticate} but runs on the BCrypt pool. Fails with
+     * {@link java.util.concurrent.RejectedExecutionException} when the pool is saturated.
+     */
+    public CompletableFuture<Optional<User>> authenticateAsync(String username, String password) {
+        return passwordHasher.submit(() -> authenticate(username, password));
     }
 }
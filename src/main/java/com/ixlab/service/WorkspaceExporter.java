@@ -0,0 +1,171 @@
+package com.ixlab.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.ixlab.codec.ContentCodecs;
+import com.ixlab.domain.Category;
+import com.ixlab.dto.ConfigurationSummary;
+import com.ixlab.dto.WorkspaceRecord;
+import com.ixlab.render.PropertiesRenderer;
+import com.ixlab.repository.CategoryRepository;
+import com.ixlab.repository.ConfigurationListingRepository;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.persistence.Tuple;
+import javax.transaction.Transactional;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes a user's whole workspace to a stream as it is read from the database.
+ * <p>
+ * ZIP layout: {@code categories.json}, then per configuration
+ * {@code configurations/<id>.json} and, when it renders,
+ * {@code properties/<category>/<name>-<id>.properties}.
+ * NDJSON: one {@link WorkspaceRecord} per line, categories first; configuration lines
+ * carry the rendered properties inline.
+ */
+@Singleton
+public class WorkspaceExporter {
+
+    public enum Format { ZIP, NDJSON }
+
+    static final String CATEGORIES_ENTRY = "categories.json";
+    static final String CONFIGURATIONS_DIR = "configurations/";
+    static final String PROPERTIES_DIR = "properties/";
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkspaceExporter.class);
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final byte[] NEWLINE = {'\n'};
+
+    private final CategoryRepository categoryRepo;
+    private final ConfigurationListingRepository listingRepo;
+    private final ContentCodecs codecs;
+    private final PropertiesRenderer propertiesRenderer;
+    private final ObjectWriter writer;
+    private final int fetchSize;
+
+    public WorkspaceExporter(CategoryRepository categoryRepo,
+                             ConfigurationListingRepository listingRepo,
+                             ContentCodecs codecs,
+                             PropertiesRenderer propertiesRenderer,
+                             ObjectMapper objectMapper,
+                             @Value("${buildbag.export.fetch-size:100}") int fetchSize) {
+        this.categoryRepo = categoryRepo;
+        this.listingRepo = listingRepo;
+        this.codecs = codecs;
+        this.propertiesRenderer = propertiesRenderer;
+        this.writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.fetchSize = Math.max(fetchSize, 1);
+    }
+
+    @Transactional
+    public void export(Long userId, Format format, OutputStream out) throws IOException {
+        List<WorkspaceRecord> categories = new ArrayList<>();
+        for (Category category : categoryRepo.findByOwnerIdOrderById(userId)) {
+            WorkspaceRecord record = new WorkspaceRecord();
+            record.setType(WorkspaceRecord.CATEGORY);
+            record.setId(category.getId());
+            record.setName(category.getName());
+            categories.add(record);
+        }
+
+        if (format == Format.NDJSON) {
+            for (WorkspaceRecord category : categories) {
+                writeLine(category, out);
+            }
+            try (Stream<Tuple> rows = listingRepo.streamWithContent(userId, fetchSize)) {
+                Iterator<Tuple> it = rows.iterator();
+                while (it.hasNext()) {
+                    Tuple row = it.next();
+                    WorkspaceRecord record = toRecord(row);
+                    record.setProperties(render(record, row));
+                    writeLine(record, out);
+                }
+            }
+            out.flush();
+            return;
+        }
+
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        zip.putNextEntry(new ZipEntry(CATEGORIES_ENTRY));
+        writer.writeValue(zip, categories);
+        zip.closeEntry();
+        try (Stream<Tuple> rows = listingRepo.streamWithContent(userId, fetchSize)) {
+            Iterator<Tuple> it = rows.iterator();
+            while (it.hasNext()) {
+                Tuple row = it.next();
+                WorkspaceRecord record = toRecord(row);
+                zip.putNextEntry(new ZipEntry(CONFIGURATIONS_DIR + record.getId() + ".json"));
+                writer.writeValue(zip, record);
+                zip.closeEntry();
+
+                String properties = render(record, row);
+                if (properties != null) {
+                    zip.putNextEntry(new ZipEntry(PROPERTIES_DIR + safeName(record.getCategoryName()) + "/"
+                        + safeName(record.getName()) + "-" + record.getId() + ".properties"));
+                    zip.write(properties.getBytes(StandardCharsets.UTF_8));
+                    zip.closeEntry();
+                }
+            }
+        }
+        zip.finish();
+        zip.flush();
+    }
+
+    private void writeLine(WorkspaceRecord record, OutputStream out) throws IOException {
+        writer.writeValue(out, record);
+        out.write(NEWLINE);
+    }
+
+    private WorkspaceRecord toRecord(Tuple row) {
+        ConfigurationSummary summary = ConfigurationListingRepository.toSummary(row);
+        WorkspaceRecord record = new WorkspaceRecord();
+        record.setType(WorkspaceRecord.CONFIGURATION);
+        record.setId(summary.getId());
+        record.setName(summary.getName());
+        record.setSubcategory(summary.getSubcategory());
+        record.setCategoryId(summary.getCategoryId());
+        record.setCategoryName(summary.getCategoryName());
+        if (summary.getCreatedAt() != null) {
+            record.setCreatedAt(summary.getCreatedAt().format(DATE_FORMATTER));
+        }
+        if (summary.getUpdatedAt() != null) {
+            record.setUpdatedAt(summary.getUpdatedAt().format(DATE_FORMATTER));
+        }
+        record.setJson(new String(codecs.decode(row.get("content", byte[].class)), StandardCharsets.UTF_8));
+        return record;
+    }
+
+    /**
+     * Rendered {@code .properties}, or {@code null} when the stored JSON cannot be rendered;
+     * the export still carries the JSON itself.
+     */
+    private String render(WorkspaceRecord record, Tuple row) {
+        try {
+            byte[] json = record.getJson().getBytes(StandardCharsets.UTF_8);
+            return propertiesRenderer.renderUncached(record.getId(), row.get("updatedAt", LocalDateTime.class), () -> json);
+        } catch (RuntimeException e) {
+            LOG.debug("Skipping properties of configuration {}: {}", record.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static String safeName(String name) {
+        if (name == null || name.isEmpty()) return "_";
+        return name.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+}
@@ -0,0 +1,153 @@
+package com.ixlab.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.ixlab.dto.BulkImportResult;
+import com.ixlab.dto.BulkItemResult;
+import com.ixlab.dto.SaveConfigurationRequest;
+import com.ixlab.dto.WorkspaceRecord;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Restores a workspace written by {@link WorkspaceExporter}. Archives are read entry by
+ * entry and configurations go through {@link ConfigurationBulkImporter}, so a restore is
+ * chunked and batched like a bulk import. Categories are created first, including empty
+ * ones; rendered {@code .properties} entries are derived data and are ignored.
+ */
+@Singleton
+public class WorkspaceImporter {
+
+    private final ConfigurationBulkImporter bulkImporter;
+    private final ConfigurationBulkWriter writer;
+    private final ObjectReader recordReader;
+    private final ObjectReader categoriesReader;
+
+    public WorkspaceImporter(ConfigurationBulkImporter bulkImporter,
+                             ConfigurationBulkWriter writer,
+                             ObjectMapper objectMapper) {
+        this.bulkImporter = bulkImporter;
+        this.writer = writer;
+        this.recordReader = objectMapper.readerFor(WorkspaceRecord.class).without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        this.categoriesReader = objectMapper.readerFor(new TypeReference<List<WorkspaceRecord>>() {})
+            .without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+    }
+
+    public BulkImportResult importZip(InputStream body, Long userId) {
+        ZipInputStream zip = new ZipInputStream(body, StandardCharsets.UTF_8);
+        Deque<WorkspaceRecord> buffered = new ArrayDeque<>();
+        return bulkImporter.importItems(new Records(userId) {
+            @Override
+            WorkspaceRecord nextRecord() throws IOException {
+                while (buffered.isEmpty()) {
+                    ZipEntry entry = zip.getNextEntry();
+                    if (entry == null) return null;
+                    String name = entry.getName();
+                    if (WorkspaceExporter.CATEGORIES_ENTRY.equals(name)) {
+                        List<WorkspaceRecord> categories = categoriesReader.readValue(zip);
+                        buffered.addAll(categories);
+                    } else if (name.startsWith(WorkspaceExporter.CONFIGURATIONS_DIR) && name.endsWith(".json")) {
+                        buffered.add(recordReader.readValue(zip));
+                    }
+                }
+                return buffered.poll();
+            }
+        }, userId);
+    }
+
+    public BulkImportResult importNdjson(InputStream body, Long userId) {
+        try (MappingIterator<WorkspaceRecord> lines = recordReader.readValues(body)) {
+            return bulkImporter.importItems(new Records(userId) {
+                @Override
+                WorkspaceRecord nextRecord() throws IOException {
+                    return lines.hasNextValue() ? lines.nextValue() : null;
+                }
+            }, userId);
+        } catch (IOException e) {
+            return new BulkImportResult(Collections.singletonList(BulkItemResult.failed(0, "Invalid JSON: " + e.getMessage())));
+        }
+    }
+
+    /**
+     * Adapts a sequence of records to the configurations to import. Category records are
+     * collected and created just before the first configuration (or at the end).
+     */
+    private abstract class Records implements Iterator<SaveConfigurationRequest> {
+        private final Long userId;
+        private final List<String> pendingCategories = new ArrayList<>();
+        private SaveConfigurationRequest next;
+        private boolean done;
+
+        Records(Long userId) {
+            this.userId = userId;
+        }
+
+        /**
+         * @return the next record, or {@code null} at the end of the input
+         */
+        abstract WorkspaceRecord nextRecord() throws IOException;
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) return true;
+            if (done) return false;
+            try {
+                WorkspaceRecord record;
+                while ((record = nextRecord()) != null) {
+                    if (WorkspaceRecord.CATEGORY.equals(record.getType())) {
+                        pendingCategories.add(record.getName());
+                    } else if (WorkspaceRecord.CONFIGURATION.equals(record.getType())) {
+                        createPendingCategories();
+                        next = toRequest(record);
+                        return true;
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            createPendingCategories();
+            done = true;
+            return false;
+        }
+
+        @Override
+        public SaveConfigurationRequest next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            SaveConfigurationRequest request = next;
+            next = null;
+            return request;
+        }
+
+        private void createPendingCategories() {
+            if (!pendingCategories.isEmpty()) {
+                writer.createCategories(pendingCategories, userId);
+                pendingCategories.clear();
+            }
+        }
+    }
+
+    private static SaveConfigurationRequest toRequest(WorkspaceRecord record) {
+        SaveConfigurationRequest request = new SaveConfigurationRequest();
+        request.setName(record.getName());
+        request.setSubcategory(record.getSubcategory());
+        request.setCategoryName(record.getCategoryName());
+        request.setJson(record.getJson());
+        return request;
+    }
+}
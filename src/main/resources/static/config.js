@@ -152,81 +152,6 @@ function checkIfDomainProperty(key, pattern) {
     return regex.test(key) || templateRegex.test(key);
 }
 
-// Convert a domain property key to its template form
-// Example: "app.domain1.name" with pattern "domain{N}" becomes "app.domain{N}.name"
-function convertToDomainTemplate(key, pattern) {
-    if (!pattern || !key) return key;
-    
-    // Extract the base pattern without {N}
-    const patternParts = pattern.split('{N}');
-    if (patternParts.length !== 2) return key;
-    
-    const prefix = patternParts[0];
-    const suffix = patternParts[1];
-    
-    // Escape special regex characters
-    const escapedPrefix = prefix.replace(/[.*+?^${}()|[\]\\]/g, '\\$&');
-    const escapedSuffix = suffix.replace(/[.*+?^${}()|[\]\\]/g, '\\$&');
-    
-    // Replace the domain number with {N}
-    const regex = new RegExp(`${escapedPrefix}(\\d+)${escapedSuffix}`, 'gi');
-    return key.replace(regex, `${prefix}{N}${suffix}`);
-}
-
-// Get default Mexico states data
-function getDefaultMexicoStates() {
-    return [
-        { value: "1", label: "Aguascalientes" },
-        { value: "2", label: "Baja California" },
-        { value: "3", label: "Baja California Sur" },
-        { value: "4", label: "Campeche" },
-        { value: "5", label: "Chiapas" },
-        { value: "6", label: "Chihuahua" },
-        { value: "7", label: "Ciudad de México" },
-        { value: "8", label: "Coahuila" },
-        { value: "9", label: "Colima" },
-        { value: "10", label: "Durango" },
-        { value: "11", label: "Estado de México" },
-        { value: "12", label: "Guanajuato" },
-        { value: "13", label: "Guerrero" },
-        { value: "14", label: "Hidalgo" },
-        { value: "15", label: "Jalisco" },
-        { value: "16", label: "Michoacán" },
-        { value: "17", label: "Morelos" },
-        { value: "18", label: "Nayarit" },
-        { value: "19", label: "Nuevo León" },
-        { value: "20", label: "Oaxaca" },
-        { value: "21", label: "Puebla" },
-        { value: "22", label: "Querétaro" },
-        { value: "23", label: "Quintana Roo" },
-        { value: "24", label: "San Luis Potosí" },
-        { value: "25", label: "Sinaloa" },
-        { value: "26", label: "Sonora" },
-        { value: "27", label: "Tabasco" },
-        { value: "28", label: "Tamaulipas" },
-        { value: "29", label: "Tlaxcala" },
-        { value: "30", label: "Veracruz" },
-        { value: "31", label: "Yucatán" },
-        { value: "32", label: "Zacatecas" }
-    ];
-}
-
-// Get default payment periods data
-function getDefaultPaymentPeriods() {
-    return [
-        { value: "1", label: "Semanal", enabled: true },
-        { value: "2", label: "Decenal", enabled: true },
-        { value: "3", label: "Catorcenal", enabled: true },
-        { value: "4", label: "Quincenal", enabled: true },
-        { value: "5", label: "Mensual", enabled: true },
-        { value: "6", label: "Bimestral", enabled: true },
-        { value: "7", label: "Trimestral", enabled: true },
-        { value: "8", label: "Cuatrimestral", enabled: true },
-        { value: "9", label: "Semestral", enabled: true },
-        { value: "10", label: "Anual", enabled: true }
-    ];
-}
-
 // Initialize the application
 document.addEventListener('DOMContentLoaded', async () => {
     // Check if we're in backend mode (Thymeleaf panel)
@@ -500,155 +425,6 @@ if (typeof window !== 'undefined') {
     }
 }
 
-// Parse .properties file and convert to JSON configuration
-function parsePropertiesFile(content, fileName) {
-    const lines = content.split('\n');
-    const properties = {};
-    const categories = {};
-    
-    // Parse each line
-    lines.forEach(line => {
-        // Skip comments and empty lines
-        line = line.trim();
-        if (!line || line.startsWith('#') || line.startsWith('!')) {
-            return;
-        }
-        
-        // Find the first = or :
-        const separatorIndex = line.search(/[=:]/);
-        if (separatorIndex === -1) return;
-        
-        const key = line.substring(0, separatorIndex).trim();
-        let value = line.substring(separatorIndex + 1).trim();
-        
-        // Handle multi-line values (ending with \)
-        // For simplicity, we'll just use the value as-is
-        
-        properties[key] = value;
-    });
-    
-    // Group properties by category (first part of the key)
-    Object.keys(properties).forEach(key => {
-        const parts = key.split('.');
-        let categoryName = 'General';
-        
-        if (parts.length >= 2) {
-            // Use first two parts as category
-            categoryName = parts.slice(0, 2).join('.');
-        }
-        
-        if (!categories[categoryName]) {
-            categories[categoryName] = [];
-        }
-        
-        // Detect property type
-        const value = properties[key];
-        let type = 'text';
-        let booleanType = null;
-        
-        if (value === 'true' || value === 'false') {
-            type = 'boolean';
-            booleanType = 'string';
-        } else if (value === '1' || value === '0') {
-            // Could be boolean or number
-            type = 'boolean';
-            booleanType = 'number';
-        } else if (/^\d+$/.test(value)) {
-            type = 'number';
-        } else if (value.startsWith('http://') || value.startsWith('https://')) {
-            type = 'url';
-        } else if (/<[a-z][\s\S]*>/i.test(value)) {
-            // Detect HTML content
-            type = 'html';
-        }
-        
-        // Check if this is a domain property using configurable pattern
-        // Default pattern is "domain{N}" but can be customized
-        const domainPattern = getDomainKeyPattern();
-        const isDomainProp = checkIfDomainProperty(key, domainPattern);
-        
-        const prop = {
-            key: key,
-            label: key.split('.').pop().replace(/([A-Z])/g, ' $1').trim(),
-            type: type,
-            default: value,
-            required: false,
-            needsConfirmation: type === 'text' || type === 'url',
-            description: `Propiedad importada: ${key}`
-        };
-        
-        if (booleanType) {
-            prop.booleanType = booleanType;
-        }
-        
-        if (type === 'url') {
-            prop.checkService = true;
-        }
-        
-        categories[categoryName].push(prop);
-    });
-    
-    // Separate global and domain properties
-    const globalCategories = [];
-    const domainCategories = [];
-    
-    Object.keys(categories).forEach(categoryName => {
-        const props = categories[categoryName];
-        const hasDomainProps = props.some(p => /domain\d+|domain\{N\}/i.test(p.key));
-        
-        if (hasDomainProps) {
-            // Convert domain-specific keys to template format using configurable pattern
-            const domainPattern = getDomainKeyPattern();
-            const templateProps = props.map(p => ({
-                ...p,
-                key: convertToDomainTemplate(p.key, domainPattern)
-            }));
-            
-            // Remove duplicates (same template key)
-            const uniqueProps = [];
-            const seenKeys = new Set();
-            templateProps.forEach(p => {
-                if (!seenKeys.has(p.key)) {
-                    seenKeys.add(p.key);
-                    uniqueProps.push(p);
-                }
-            });
-            
-            domainCategories.push({
-                category: categoryName.replace(/domain\d+/gi, 'Dominio'),
-                properties: uniqueProps
-            });
-        } else {
-            globalCategories.push({
-                category: formatCategoryName(categoryName),
-                icon: 'settings',
-                properties: props
-            });
-        }
-    });
-    
-    // Create the JSON configuration
-    const projectName = fileName.replace('.properties', '').replace(/-/g, ' ').replace(/_/g, ' ');
-    
-    return {
-        projectName: projectName.charAt(0).toUpperCase() + projectName.slice(1),
-        projectDescription: `Configuración importada desde ${fileName}`,
-        version: '1.0.0',
-        outputFileName: fileName,
-        mexicoStates: getDefaultMexicoStates(),
-        paymentPeriods: getDefaultPaymentPeriods(),
-        globalProperties: globalCategories.length > 0 ? globalCategories : [{
-            category: 'Propiedades Generales',
-            icon: 'settings',
-            properties: []
-        }],
-        domainProperties: domainCategories.length > 0 ? domainCategories : [{
-            category: 'Configuración del Dominio',
-            properties: []
-        }]
-    };
-}
-
 // Format category name from property key prefix
 function formatCategoryName(name) {
     return name
@@ -2690,7 +2466,8 @@ let editorProperties = [];
 let editorCategories = [];
 let editorFileName = '';
 
-// Parse .properties file for editor (returns raw properties)
+// Parse .properties file for editor (returns raw properties).
+// Only used without a session (standalone mode): the panel converts uploads with POST /api/import/properties.
 function parsePropertiesFileForEditor(content, fileName) {
     const lines = content.split('\n');
     const properties = [];
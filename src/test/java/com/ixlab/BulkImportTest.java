@@ -0,0 +1,79 @@
+package com.ixlab;
+
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class BulkImportTest {
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    private String accessToken;
+
+    @BeforeAll
+    void setUp() {
+        Map<String, String> credentials = new HashMap<>();
+        credentials.put("username", "bulkuser");
+        credentials.put("password", "testpass123");
+        Map<?, ?> auth = client.toBlocking().retrieve(HttpRequest.POST("/api/auth/register", credentials)
+                .contentType(MediaType.APPLICATION_JSON_TYPE), Map.class);
+        accessToken = (String) auth.get("accessToken");
+    }
+
+    @Test
+    void importsJsonArrayWithPerItemResults() {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < 120; i++) {
+            body.append("{\"name\":\"Bulk ").append(i).append("\",\"categoryName\":\"Bulk ").append(i % 3)
+                .append("\",\"json\":\"{\\\"projectName\\\":\\\"Bulk ").append(i % 10).append("\\\"}\"},");
+        }
+        body.append("{\"categoryName\":\"Bulk 0\",\"json\":\"{}\"}]");
+
+        Map result = client.toBlocking().retrieve(HttpRequest.POST("/api/configs/bulk", body.toString())
+                .contentType(MediaType.APPLICATION_JSON_TYPE)
+                .bearerAuth(accessToken), Map.class);
+
+        assertEquals(120, ((Number) result.get("created")).intValue());
+        assertEquals(1, ((Number) result.get("failed")).intValue());
+        List<Map> items = (List<Map>) result.get("items");
+        assertEquals(121, items.size());
+        assertEquals("failed", items.get(120).get("status"));
+        assertEquals(120, ((Number) items.get(120).get("index")).intValue());
+
+        List<Map> categories = client.toBlocking().retrieve(
+                HttpRequest.GET("/api/categories").bearerAuth(accessToken), List.class);
+        assertEquals(3, categories.stream().filter(c -> ((String) c.get("name")).startsWith("Bulk ")).count());
+    }
+
+    @Test
+    void importsNdjson() {
+        String body = "{\"name\":\"Nd 1\",\"categoryName\":\"Ndjson\",\"json\":\"{}\"}\n"
+                + "{\"name\":\"Nd 2\",\"categoryName\":\"Ndjson\",\"json\":\"{\\\"a\\\":1}\"}\n";
+
+        Map result = client.toBlocking().retrieve(HttpRequest.POST("/api/configs/bulk", body)
+                .contentType("application/x-ndjson")
+                .bearerAuth(accessToken), Map.class);
+
+        assertEquals(2, ((Number) result.get("created")).intValue());
+        List<Map> configs = client.toBlocking().retrieve(
+                HttpRequest.GET("/api/configs?namePrefix=Nd%20").bearerAuth(accessToken), List.class);
+        assertEquals(2, configs.size());
+    }
+}
@@ -0,0 +1,100 @@
+package com.ixlab;
+
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class ChangeFeedTest {
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    private String accessToken;
+
+    @BeforeAll
+    void setUp() {
+        Map<String, String> credentials = new HashMap<>();
+        credentials.put("username", "changefeeduser");
+        credentials.put("password", "testpass123");
+        Map<?, ?> auth = client.toBlocking().retrieve(HttpRequest.POST("/api/auth/register", credentials)
+                .contentType(MediaType.APPLICATION_JSON_TYPE), Map.class);
+        accessToken = (String) auth.get("accessToken");
+    }
+
+    @Test
+    void pollReturnsCommittedChangesAfterTheCursor() {
+        long cursor = ((Number) poll("").get("version")).longValue();
+
+        Long id = create("Feed Config");
+        client.toBlocking().exchange(HttpRequest.DELETE("/api/configs/" + id).bearerAuth(accessToken));
+
+        Map batch = poll("after=" + cursor + "&timeout=5");
+        assertEquals(Boolean.FALSE, batch.get("reset"));
+        List<Map> events = (List<Map>) batch.get("events");
+        assertEquals(2, events.size());
+        assertEquals("created", events.get(0).get("type"));
+        assertEquals(id.intValue(), ((Number) events.get(0).get("configurationId")).intValue());
+        assertEquals("Feed Config", events.get(0).get("name"));
+        assertEquals("deleted", events.get(1).get("type"));
+        assertTrue(((Number) batch.get("version")).longValue() >= ((Number) events.get(1).get("version")).longValue());
+    }
+
+    @Test
+    void pollWaitsForTheNextChange() throws Exception {
+        long cursor = ((Number) poll("").get("version")).longValue();
+
+        CompletableFuture<Map> pending = CompletableFuture.supplyAsync(() -> poll("after=" + cursor + "&timeout=30"));
+        Thread.sleep(200);
+        Long id = create("Awaited Config");
+
+        Map batch = pending.get(10, TimeUnit.SECONDS);
+        List<Map> events = (List<Map>) batch.get("events");
+        assertEquals(1, events.size());
+        assertEquals(id.intValue(), ((Number) events.get(0).get("configurationId")).intValue());
+    }
+
+    @Test
+    void pollWithoutChangesTimesOutAndStaleCursorsAreReset() {
+        long cursor = ((Number) poll("").get("version")).longValue();
+        Map idle = poll("after=" + cursor + "&timeout=0");
+        assertTrue(((List) idle.get("events")).isEmpty());
+        assertEquals(Boolean.FALSE, idle.get("reset"));
+
+        Map stale = poll("after=1&timeout=0");
+        assertEquals(Boolean.TRUE, stale.get("reset"));
+    }
+
+    private Map poll(String query) {
+        return client.toBlocking().retrieve(
+                HttpRequest.GET("/api/configs/changes/poll?" + query).bearerAuth(accessToken), Map.class);
+    }
+
+    private Long create(String name) {
+        Map<String, Object> configData = new HashMap<>();
+        configData.put("name", name);
+        configData.put("categoryName", "Feed Category");
+        configData.put("json", "{\"properties\":[]}");
+        Map<?, ?> config = client.toBlocking().retrieve(HttpRequest.POST("/api/configs", configData)
+                .contentType(MediaType.APPLICATION_JSON_TYPE)
+                .bearerAuth(accessToken), Map.class);
+        return ((Number) config.get("id")).longValue();
+    }
+}
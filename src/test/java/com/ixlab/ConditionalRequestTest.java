@@ -0,0 +1,112 @@
+package com.ixlab;
+
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class ConditionalRequestTest {
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    private String accessToken;
+    private Long configId;
+
+    @BeforeAll
+    void setUp() {
+        Map<String, String> credentials = new HashMap<>();
+        credentials.put("username", "etaguser");
+        credentials.put("password", "testpass123");
+        Map<?, ?> auth = client.toBlocking().retrieve(HttpRequest.POST("/api/auth/register", credentials)
+                .contentType(MediaType.APPLICATION_JSON_TYPE), Map.class);
+        accessToken = (String) auth.get("accessToken");
+
+        Map<String, Object> configData = new HashMap<>();
+        configData.put("name", "ETag Config");
+        configData.put("subcategory", "v1");
+        configData.put("categoryName", "ETag Category");
+        configData.put("json", "{\"projectName\":\"ETag\"}");
+        Map<?, ?> config = client.toBlocking().retrieve(HttpRequest.POST("/api/configs", configData)
+                .contentType(MediaType.APPLICATION_JSON_TYPE)
+                .bearerAuth(accessToken), Map.class);
+        configId = ((Number) config.get("id")).longValue();
+    }
+
+    @Test
+    void configurationAnswers304ForMatchingEtag() {
+        HttpResponse<Map> first = client.toBlocking().exchange(
+                HttpRequest.GET("/api/configs/" + configId).bearerAuth(accessToken), Map.class);
+        String etag = first.getHeaders().get(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        assertNotNull(first.getHeaders().get(HttpHeaders.LAST_MODIFIED));
+
+        HttpResponse<Map> second = client.toBlocking().exchange(
+                HttpRequest.GET("/api/configs/" + configId).bearerAuth(accessToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag), Map.class);
+        assertEquals(304, second.getStatus().getCode());
+        assertFalse(second.getBody().isPresent());
+    }
+
+    @Test
+    void etagChangesWhenContentChanges() {
+        String before = client.toBlocking().exchange(
+                HttpRequest.GET("/api/configs/with-categories").bearerAuth(accessToken), List.class)
+                .getHeaders().get(HttpHeaders.ETAG);
+        String configBefore = client.toBlocking().exchange(
+                HttpRequest.GET("/api/configs/" + configId).bearerAuth(accessToken), Map.class)
+                .getHeaders().get(HttpHeaders.ETAG);
+
+        Map<String, Object> update = new HashMap<>();
+        update.put("name", "ETag Config Renamed");
+        update.put("json", "{\"projectName\":\"ETag 2\"}");
+        client.toBlocking().exchange(HttpRequest.PUT("/api/configs/" + configId, update)
+                .contentType(MediaType.APPLICATION_JSON_TYPE)
+                .bearerAuth(accessToken), Map.class);
+
+        HttpResponse<List> list = client.toBlocking().exchange(
+                HttpRequest.GET("/api/configs/with-categories").bearerAuth(accessToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, before), List.class);
+        assertEquals(200, list.getStatus().getCode());
+        assertNotEquals(before, list.getHeaders().get(HttpHeaders.ETAG));
+
+        HttpResponse<Map> config = client.toBlocking().exchange(
+                HttpRequest.GET("/api/configs/" + configId).bearerAuth(accessToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, configBefore), Map.class);
+        assertEquals(200, config.getStatus().getCode());
+    }
+
+    @Test
+    void contentAndConfigurationHaveDifferentEtags() {
+        String configEtag = client.toBlocking().exchange(
+                HttpRequest.GET("/api/configs/" + configId).bearerAuth(accessToken), Map.class)
+                .getHeaders().get(HttpHeaders.ETAG);
+        String contentEtag = client.toBlocking().exchange(
+                HttpRequest.GET("/api/configs/" + configId + "/content").bearerAuth(accessToken), byte[].class)
+                .getHeaders().get(HttpHeaders.ETAG);
+        assertNotNull(contentEtag);
+        assertNotEquals(configEtag, contentEtag);
+
+        HttpResponse<byte[]> content = client.toBlocking().exchange(
+                HttpRequest.GET("/api/configs/" + configId + "/content").bearerAuth(accessToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, configEtag), byte[].class);
+        assertEquals(200, content.getStatus().getCode());
+    }
+}
@@ -0,0 +1,97 @@
+package com.ixlab;
+
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class ConfigurationPaginationTest {
+
+    private static final int CONFIGS = 7;
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    private String accessToken;
+
+    @BeforeAll
+    void setUp() {
+        Map<String, String> credentials = new HashMap<>();
+        credentials.put("username", "pageuser");
+        credentials.put("password", "testpass123");
+        Map<?, ?> auth = client.toBlocking().retrieve(HttpRequest.POST("/api/auth/register", credentials)
+                .contentType(MediaType.APPLICATION_JSON_TYPE), Map.class);
+        accessToken = (String) auth.get("accessToken");
+
+        for (int i = 0; i < CONFIGS; i++) {
+            Map<String, Object> configData = new HashMap<>();
+            configData.put("name", (i % 2 == 0 ? "alpha-" : "beta-") + i);
+            configData.put("subcategory", "v" + (i % 3));
+            configData.put("categoryName", "Paged Category");
+            configData.put("json", "{\"projectName\":\"Paged " + i + "\"}");
+            client.toBlocking().exchange(HttpRequest.POST("/api/configs", configData)
+                    .contentType(MediaType.APPLICATION_JSON_TYPE)
+                    .bearerAuth(accessToken));
+        }
+    }
+
+    @Test
+    void pagesCoverAllConfigurationsWithoutDuplicates() {
+        Set<Object> seen = new HashSet<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            String uri = "/api/configs?limit=3" + (cursor == null ? "" : "&cursor=" + cursor);
+            HttpResponse<List> page = client.toBlocking().exchange(HttpRequest.GET(uri).bearerAuth(accessToken), List.class);
+            List<Map> items = page.body();
+            pageSizes.add(items.size());
+            for (Map item : items) {
+                assertTrue(seen.add(item.get("id")));
+            }
+            cursor = page.getHeaders().get("X-Next-Cursor");
+        } while (cursor != null);
+
+        assertEquals(CONFIGS, seen.size());
+        assertEquals(3, pageSizes.size());
+    }
+
+    @Test
+    void filtersByNamePrefixAndSortsByName() {
+        List<Map> configs = client.toBlocking().retrieve(
+                HttpRequest.GET("/api/configs?namePrefix=alpha&sort=-name").bearerAuth(accessToken), List.class);
+        assertEquals(4, configs.size());
+        assertEquals("alpha-6", configs.get(0).get("name"));
+        assertEquals("alpha-0", configs.get(3).get("name"));
+    }
+
+    @Test
+    void rejectsUnknownSortAndMalformedCursor() {
+        HttpClientResponseException sort = assertThrows(HttpClientResponseException.class, () ->
+                client.toBlocking().exchange(HttpRequest.GET("/api/configs?sort=content").bearerAuth(accessToken)));
+        assertEquals(400, sort.getStatus().getCode());
+
+        HttpClientResponseException cursor = assertThrows(HttpClientResponseException.class, () ->
+                client.toBlocking().exchange(HttpRequest.GET("/api/configs?limit=2&cursor=bm90LWEtY3Vyc29y").bearerAuth(accessToken)));
+        assertEquals(400, cursor.getStatus().getCode());
+    }
+}
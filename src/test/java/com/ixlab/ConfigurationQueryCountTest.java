@@ -0,0 +1,72 @@
+package com.ixlab;
+
+import com.ixlab.domain.Category;
+import com.ixlab.domain.User;
+import com.ixlab.dto.CategoryDto;
+import com.ixlab.dto.SaveConfigurationRequest;
+import com.ixlab.service.ConfigurationService;
+import com.ixlab.service.UserService;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest(transactional = false)
+public class ConfigurationQueryCountTest {
+
+    @Inject
+    ConfigurationService configService;
+
+    @Inject
+    UserService userService;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Test
+    void categoryTreeStatementCountDoesNotGrowWithCategories() {
+        User small = userService.register("querycount-small", "testpass123");
+        populate(small.getId(), 2, 3);
+        User large = userService.register("querycount-large", "testpass123");
+        populate(large.getId(), 20, 3);
+
+        long smallCount = countStatements(small.getId(), 2);
+        long largeCount = countStatements(large.getId(), 20);
+
+        assertEquals(smallCount, largeCount, "Statement count should not depend on the number of categories");
+        assertTrue(largeCount <= 2, "Category tree should load in at most two statements, was " + largeCount);
+    }
+
+    private void populate(Long userId, int categories, int configsPerCategory) {
+        for (int c = 0; c < categories; c++) {
+            Category category = configService.createCategory("Category " + c, userId);
+            for (int i = 0; i < configsPerCategory; i++) {
+                SaveConfigurationRequest request = new SaveConfigurationRequest();
+                request.setName("Config " + i);
+                request.setSubcategory("v" + i);
+                request.setCategoryId(category.getId());
+                request.setJson("{\"projectName\":\"P" + i + "\"}");
+                configService.saveConfiguration(request, userId);
+            }
+        }
+    }
+
+    private long countStatements(Long userId, int expectedCategories) {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        List<CategoryDto> tree = configService.getCategoriesWithConfigurations(userId);
+        long count = statistics.getPrepareStatementCount();
+
+        assertEquals(expectedCategories, tree.size());
+        for (CategoryDto dto : tree) {
+            assertEquals(3, dto.getConfigurations().size());
+            assertEquals(dto.getName(), dto.getConfigurations().get(0).getCategoryName());
+        }
+        return count;
+    }
+}
@@ -0,0 +1,74 @@
+package com.ixlab;
+
+import com.ixlab.domain.Category;
+import com.ixlab.domain.User;
+import com.ixlab.dto.SaveConfigurationRequest;
+import com.ixlab.repository.ConfigurationBlobRepository;
+import com.ixlab.service.ConfigurationContentStore;
+import com.ixlab.service.ConfigurationService;
+import com.ixlab.service.UserService;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest(transactional = false)
+public class ContentDeduplicationTest {
+
+    @Inject
+    ConfigurationService configService;
+
+    @Inject
+    UserService userService;
+
+    @Inject
+    ConfigurationBlobRepository blobRepo;
+
+    @Test
+    void concurrentWritersOfTheSameNewContentShareOneBlob() throws Exception {
+        User user = userService.register("dedupuser", "testpass123");
+        Category category = configService.createCategory("Dedup Category", user.getId());
+        String json = "{\"projectName\":\"Shared\",\"nonce\":\"" + System.nanoTime() + "\"}";
+        int writers = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<CompletableFuture<Long>> results = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                String name = "Shared " + i;
+                results.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    SaveConfigurationRequest request = new SaveConfigurationRequest();
+                    request.setName(name);
+                    request.setCategoryId(category.getId());
+                    request.setJson(json);
+                    return configService.saveConfiguration(request, user.getId()).getId();
+                }, executor));
+            }
+            start.countDown();
+            for (CompletableFuture<Long> result : results) {
+                assertNotNull(result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        String hash = ConfigurationContentStore.hash(json.getBytes(StandardCharsets.UTF_8));
+        assertEquals(writers, blobRepo.findById(hash).orElseThrow(AssertionError::new).getRefCount());
+    }
+}
@@ -0,0 +1,74 @@
+package com.ixlab;
+
+import com.ixlab.domain.Category;
+import com.ixlab.domain.User;
+import com.ixlab.dto.SaveConfigurationRequest;
+import com.ixlab.service.ConfigurationService;
+import com.ixlab.service.IdGeneratorAlignment;
+import com.ixlab.service.UserService;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest(transactional = false)
+public class IdGeneratorAlignmentTest {
+
+    @Inject
+    ConfigurationService configService;
+
+    @Inject
+    UserService userService;
+
+    @Inject
+    IdGeneratorAlignment alignment;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Test
+    void sequencesAreMovedPastExistingIds() {
+        User user = userService.register("sequenceuser", "testpass123");
+        Category category = configService.createCategory("Sequence Category", user.getId());
+        save(category, user, "{\"projectName\":\"Before\"}");
+
+        // A revision id far ahead of the sequence, as left by IDENTITY keys or a copy with ids
+        long farAhead = number("SELECT MAX(id) FROM configuration_revisions") + 100000;
+        execute("UPDATE configuration_revisions SET id = " + farAhead
+            + " WHERE id = (SELECT MAX(id) FROM configuration_revisions)");
+
+        alignment.align();
+
+        assertTrue(number("SELECT NEXT VALUE FOR configuration_revisions_seq") > farAhead);
+        // Already ahead: left alone
+        long next = number("SELECT NEXT VALUE FOR configuration_revisions_seq");
+        alignment.align();
+        assertTrue(number("SELECT NEXT VALUE FOR configuration_revisions_seq") <= next + 2 * 50);
+        assertNotNull(save(category, user, "{\"projectName\":\"After\"}"));
+    }
+
+    private Long save(Category category, User user, String json) {
+        SaveConfigurationRequest request = new SaveConfigurationRequest();
+        request.setName("Sequence Config");
+        request.setCategoryId(category.getId());
+        request.setJson(json);
+        return configService.saveConfiguration(request, user.getId()).getId();
+    }
+
+    private long number(String sql) {
+        try (Session session = sessionFactory.openSession()) {
+            return ((Number) session.createNativeQuery(sql).getSingleResult()).longValue();
+        }
+    }
+
+    private void execute(String sql) {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            session.createNativeQuery(sql).executeUpdate();
+            session.getTransaction().commit();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.ixlab;
+
+import com.ixlab.domain.Category;
+import com.ixlab.domain.User;
+import com.ixlab.dto.SaveConfigurationRequest;
+import com.ixlab.service.ConfigurationService;
+import com.ixlab.service.LegacyContentMigration;
+import com.ixlab.service.UserService;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest(transactional = false)
+public class LegacyContentMigrationTest {
+
+    @Inject
+    ConfigurationService configService;
+
+    @Inject
+    UserService userService;
+
+    @Inject
+    LegacyContentMigration migration;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Test
+    void legacyContentIsMovedToBlobsAndOldStorageDropped() {
+        User user = userService.register("legacyuser", "testpass123");
+        Category category = configService.createCategory("Legacy Category", user.getId());
+        Long fromColumn = save(category, user, "{\"projectName\":\"Current\"}");
+        Long fromTable = save(category, user, "{\"projectName\":\"Current\"}");
+
+        // Recreate the schema of earlier versions: content in a NOT NULL column of
+        // configuration_files, or in configuration_contents, and no content hash
+        execute("ALTER TABLE configuration_files ADD COLUMN content BLOB");
+        execute("UPDATE configuration_files SET content = X'7b7d', content_hash = NULL");
+        execute("ALTER TABLE configuration_files ALTER COLUMN content SET NOT NULL");
+        execute("UPDATE configuration_files SET content = X'" + hex("{\"projectName\":\"Column\"}") + "' WHERE id = " + fromColumn);
+        execute("CREATE TABLE configuration_contents (configuration_id BIGINT PRIMARY KEY, content BLOB NOT NULL)");
+        execute("INSERT INTO configuration_contents VALUES (" + fromTable + ", X'" + hex("{\"projectName\":\"Table\"}") + "')");
+
+        migration.migrate();
+
+        assertEquals("{\"projectName\":\"Column\"}", content(fromColumn, user));
+        assertEquals("{\"projectName\":\"Table\"}", content(fromTable, user));
+        // Inserts no longer hit the NOT NULL column
+        Long created = save(category, user, "{\"projectName\":\"New\"}");
+        assertEquals("{\"projectName\":\"New\"}", content(created, user));
+    }
+
+    private Long save(Category category, User user, String json) {
+        SaveConfigurationRequest request = new SaveConfigurationRequest();
+        request.setName("Legacy Config");
+        request.setCategoryId(category.getId());
+        request.setJson(json);
+        return configService.saveConfiguration(request, user.getId()).getId();
+    }
+
+    private String content(Long id, User user) {
+        return new String(configService.getContent(id, user.getId()).orElseThrow(AssertionError::new), StandardCharsets.UTF_8);
+    }
+
+    private void execute(String sql) {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            session.createNativeQuery(sql).executeUpdate();
+            session.getTransaction().commit();
+        }
+    }
+
+    private static String hex(String text) {
+        StringBuilder out = new StringBuilder();
+        for (byte b : text.getBytes(StandardCharsets.UTF_8)) {
+            out.append(String.format("%02x", b));
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,79 @@
+package com.ixlab;
+
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class MetricsTest {
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    private static final String SCRAPE_TOKEN = "test-scrape-token";
+
+    private String accessToken;
+
+    @BeforeAll
+    void setUp() {
+        Map<String, String> credentials = new HashMap<>();
+        credentials.put("username", "metricsuser");
+        credentials.put("password", "testpass123");
+        Map<?, ?> auth = client.toBlocking().retrieve(HttpRequest.POST("/api/auth/register", credentials)
+                .contentType(MediaType.APPLICATION_JSON_TYPE), Map.class);
+        accessToken = (String) auth.get("accessToken");
+    }
+
+    @Test
+    void prometheusExposesLatencyHistogramsAndSizes() {
+        Map<String, Object> configData = new HashMap<>();
+        configData.put("name", "Metrics Config");
+        configData.put("categoryName", "Metrics Category");
+        configData.put("json", "{\"properties\":[]}");
+        client.toBlocking().exchange(HttpRequest.POST("/api/configs", configData)
+                .contentType(MediaType.APPLICATION_JSON_TYPE)
+                .bearerAuth(accessToken));
+
+        String metrics = client.toBlocking().retrieve(HttpRequest.GET("/prometheus").bearerAuth(SCRAPE_TOKEN), String.class);
+
+        assertTrue(metrics.contains("http_server_requests_seconds_bucket"));
+        assertTrue(metrics.contains("buildbag_service_seconds_bucket{class=\"ConfigurationService\""));
+        assertTrue(metrics.contains("method=\"saveConfiguration\""));
+        assertTrue(metrics.contains("buildbag_repository_seconds_count{class=\"ConfigurationFileRepository\""));
+        assertTrue(metrics.contains("buildbag_content_size_bytes_count{operation=\"write\""));
+        assertTrue(metrics.contains("buildbag_bcrypt_seconds_count{operation=\"hash\""));
+        assertTrue(metrics.contains("buildbag_cache_hits_total{cache=\"content\""));
+    }
+
+    @Test
+    void prometheusRequiresTheScrapeToken() {
+        HttpClientResponseException e = assertThrows(HttpClientResponseException.class, () ->
+            client.toBlocking().retrieve(HttpRequest.GET("/prometheus"), String.class));
+        assertEquals(401, e.getStatus().getCode());
+
+        e = assertThrows(HttpClientResponseException.class, () ->
+            client.toBlocking().retrieve(HttpRequest.GET("/prometheus").bearerAuth("wrong-token"), String.class));
+        assertEquals(401, e.getStatus().getCode());
+    }
+
+    @Test
+    void prometheusRejectsUserTokens() {
+        HttpClientResponseException e = assertThrows(HttpClientResponseException.class, () ->
+            client.toBlocking().retrieve(HttpRequest.GET("/prometheus").bearerAuth(accessToken), String.class));
+        assertEquals(403, e.getStatus().getCode());
+    }
+}
@@ -0,0 +1,245 @@
+package com.ixlab;
+
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class OptimisticLockingTest {
+
+    private static final String MERGE_PATCH = "application/merge-patch+json";
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    private String accessToken;
+
+    @BeforeAll
+    void setUp() {
+        Map<String, String> credentials = new HashMap<>();
+        credentials.put("username", "lockinguser");
+        credentials.put("password", "testpass123");
+        Map<?, ?> auth = client.toBlocking().retrieve(HttpRequest.POST("/api/auth/register", credentials)
+                .contentType(MediaType.APPLICATION_JSON_TYPE), Map.class);
+        accessToken = (String) auth.get("accessToken");
+    }
+
+    @Test
+    void putWithStaleIfMatchIsRejected() {
+        Long id = create("Locked Config", "{\"projectName\":\"Lock\"}");
+        String etag = etag(id);
+
+        HttpResponse<Map> updated = client.toBlocking().exchange(HttpRequest.PUT("/api/configs/" + id, rename("First"))
+                .contentType(MediaType.APPLICATION_JSON_TYPE)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .bearerAuth(accessToken), Map.class);
+        String newEtag = updated.getHeaders().get(HttpHeaders.ETAG);
+        assertNotEquals(etag, newEtag);
+        assertEquals(etag(id), newEtag);
+
+        HttpClientResponseException e = assertThrows(HttpClientResponseException.class, () ->
+            client.toBlocking().exchange(HttpRequest.PUT("/api/configs/" + id, rename("Second"))
+                .contentType(MediaType.APPLICATION_JSON_TYPE)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .bearerAuth(accessToken), Map.class));
+        assertEquals(412, e.getStatus().getCode());
+
+        Map config = client.toBlocking().retrieve(HttpRequest.GET("/api/configs/" + id).bearerAuth(accessToken), Map.class);
+        assertEquals("First", config.get("name"));
+    }
+
+    @Test
+    void mergePatchChangesOnlyTheGivenMembers() {
+        Long id = create("Patched Config", "{\"projectName\":\"Patch\",\"db\":{\"url\":\"jdbc:h2:mem\",\"user\":\"sa\"}}");
+
+        // Sent as text: the client's ObjectMapper would drop the null that removes "user"
+        String patch = "{\"db\":{\"user\":null,\"pool\":10},\"owner\":\"ops\"}";
+        HttpResponse<Map> patched = client.toBlocking().exchange(HttpRequest.PATCH("/api/configs/" + id, patch)
+                .contentType(MERGE_PATCH)
+                .bearerAuth(accessToken), Map.class);
+        assertEquals(etag(id), patched.getHeaders().get(HttpHeaders.ETAG));
+
+        Map content = content(id);
+        assertEquals("Patch", content.get("projectName"));
+        assertEquals("ops", content.get("owner"));
+        Map storedDb = (Map) content.get("db");
+        assertEquals("jdbc:h2:mem", storedDb.get("url"));
+        assertEquals(10, ((Number) storedDb.get("pool")).intValue());
+        assertFalse(storedDb.containsKey("user"));
+    }
+
+    @Test
+    void concurrentPatchesOfDifferentKeysAllSucceed() throws Exception {
+        Long id = create("Contended Config", "{\"projectName\":\"Contended\"}");
+        int writers = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < writers; i++) {
+            Map<String, Object> patch = Collections.singletonMap("key" + i, "value" + i);
+            results.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return client.toBlocking().exchange(HttpRequest.PATCH("/api/configs/" + id, patch)
+                        .contentType(MERGE_PATCH)
+                        .bearerAuth(accessToken), Map.class).getStatus().getCode();
+            }));
+        }
+        start.countDown();
+
+        for (CompletableFuture<Integer> result : results) {
+            assertEquals(200, result.get(30, TimeUnit.SECONDS).intValue());
+        }
+        Map content = content(id);
+        assertEquals("Contended", content.get("projectName"));
+        for (int i = 0; i < writers; i++) {
+            assertEquals("value" + i, content.get("key" + i));
+        }
+    }
+
+    @Test
+    void concurrentPutsWithTheSameIfMatchLetExactlyOneWin() throws Exception {
+        Long id = create("Raced Config", "{\"projectName\":\"Raced\"}");
+        String etag = etag(id);
+        int writers = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < writers; i++) {
+            Map<String, Object> update = new HashMap<>();
+            update.put("json", "{\"projectName\":\"Raced " + i + "\"}");
+            results.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                try {
+                    return client.toBlocking().exchange(HttpRequest.PUT("/api/configs/" + id, update)
+                            .contentType(MediaType.APPLICATION_JSON_TYPE)
+                            .header(HttpHeaders.IF_MATCH, etag)
+                            .bearerAuth(accessToken), Map.class).getStatus().getCode();
+                } catch (HttpClientResponseException e) {
+                    return e.getStatus().getCode();
+                }
+            }));
+        }
+        start.countDown();
+
+        int succeeded = 0;
+        for (CompletableFuture<Integer> result : results) {
+            int status = result.get(30, TimeUnit.SECONDS);
+            if (status == 200) {
+                succeeded++;
+            } else {
+                // 409 when it lost inside the write, 412 when the winner had already committed
+                assertTrue(status == 409 || status == 412, "Unexpected status " + status);
+            }
+        }
+        assertEquals(1, succeeded);
+
+        List revisions = client.toBlocking().retrieve(HttpRequest.GET("/api/configs/" + id + "/revisions")
+                .bearerAuth(accessToken), List.class);
+        assertEquals(2, revisions.size());
+    }
+
+    @Test
+    void concurrentPatchesOfDifferentPropertiesAllSurvive() throws Exception {
+        Long id = create("Properties Config", "{\"projectName\":\"Props\",\"globalProperties\":[{\"category\":\"General\","
+                + "\"properties\":[{\"key\":\"db.url\",\"default\":\"jdbc:h2:mem\"},{\"key\":\"db.pool\",\"default\":\"5\"}]}]}");
+        String[] patches = {
+            "{\"globalProperties\":{\"db.url\":{\"default\":\"jdbc:sqlserver://db01:1433\"}}}",
+            "{\"globalProperties\":{\"db.pool\":{\"default\":\"20\"}}}"
+        };
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (String patch : patches) {
+            results.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return client.toBlocking().exchange(HttpRequest.PATCH("/api/configs/" + id, patch)
+                        .contentType(MERGE_PATCH)
+                        .bearerAuth(accessToken), Map.class).getStatus().getCode();
+            }));
+        }
+        start.countDown();
+
+        for (CompletableFuture<Integer> result : results) {
+            assertEquals(200, result.get(30, TimeUnit.SECONDS).intValue());
+        }
+        List categories = (List) content(id).get("globalProperties");
+        assertEquals(1, categories.size());
+        List properties = (List) ((Map) categories.get(0)).get("properties");
+        assertEquals(2, properties.size());
+        assertEquals("jdbc:sqlserver://db01:1433", ((Map) properties.get(0)).get("default"));
+        assertEquals("20", ((Map) properties.get(1)).get("default"));
+    }
+
+    @Test
+    void patchWithStaleIfMatchIsRejected() {
+        Long id = create("Pinned Config", "{\"projectName\":\"Pinned\"}");
+        String etag = etag(id);
+        client.toBlocking().exchange(HttpRequest.PATCH("/api/configs/" + id, Collections.singletonMap("a", 1))
+                .contentType(MERGE_PATCH)
+                .bearerAuth(accessToken), Map.class);
+
+        HttpClientResponseException e = assertThrows(HttpClientResponseException.class, () ->
+            client.toBlocking().exchange(HttpRequest.PATCH("/api/configs/" + id, Collections.singletonMap("b", 2))
+                .contentType(MERGE_PATCH)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .bearerAuth(accessToken), Map.class));
+        assertEquals(412, e.getStatus().getCode());
+        assertFalse(content(id).containsKey("b"));
+    }
+
+    private Long create(String name, String json) {
+        Map<String, Object> configData = new HashMap<>();
+        configData.put("name", name);
+        configData.put("categoryName", "Locking Category");
+        configData.put("json", json);
+        Map<?, ?> config = client.toBlocking().retrieve(HttpRequest.POST("/api/configs", configData)
+                .contentType(MediaType.APPLICATION_JSON_TYPE)
+                .bearerAuth(accessToken), Map.class);
+        return ((Number) config.get("id")).longValue();
+    }
+
+    private String etag(Long id) {
+        return client.toBlocking().exchange(HttpRequest.GET("/api/configs/" + id).bearerAuth(accessToken), Map.class)
+                .getHeaders().get(HttpHeaders.ETAG);
+    }
+
+    private Map content(Long id) {
+        return client.toBlocking().retrieve(HttpRequest.GET("/api/configs/" + id + "/content").bearerAuth(accessToken), Map.class);
+    }
+
+    private static Map<String, Object> rename(String name) {
+        return Collections.singletonMap("name", name);
+    }
+}
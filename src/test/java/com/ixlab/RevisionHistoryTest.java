@@ -0,0 +1,91 @@
+package com.ixlab;
+
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class RevisionHistoryTest {
+
+    private static final String V1 = "{\"projectName\":\"History\",\"properties\":[{\"key\":\"a\",\"default\":\"1\"}]}";
+    private static final String V2 = "{\"projectName\":\"History\",\"properties\":[{\"key\":\"a\",\"default\":\"2\"}],\"extra\":true}";
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    private String accessToken;
+    private Long configId;
+
+    @BeforeAll
+    void setUp() {
+        Map<String, String> credentials = new HashMap<>();
+        credentials.put("username", "historyuser");
+        credentials.put("password", "testpass123");
+        Map<?, ?> auth = client.toBlocking().retrieve(HttpRequest.POST("/api/auth/register", credentials)
+                .contentType(MediaType.APPLICATION_JSON_TYPE), Map.class);
+        accessToken = (String) auth.get("accessToken");
+
+        Map<String, Object> configData = new HashMap<>();
+        configData.put("name", "History Config");
+        configData.put("categoryName", "History Category");
+        configData.put("json", V1);
+        Map<?, ?> config = client.toBlocking().retrieve(HttpRequest.POST("/api/configs", configData)
+                .contentType(MediaType.APPLICATION_JSON_TYPE)
+                .bearerAuth(accessToken), Map.class);
+        configId = ((Number) config.get("id")).longValue();
+
+        Map<String, Object> update = new HashMap<>();
+        update.put("json", V2);
+        client.toBlocking().exchange(HttpRequest.PUT("/api/configs/" + configId, update)
+                .contentType(MediaType.APPLICATION_JSON_TYPE)
+                .bearerAuth(accessToken));
+    }
+
+    @Test
+    void revisionsCanBeListedDiffedAndRolledBack() {
+        List<Map> revisions = client.toBlocking().retrieve(
+                HttpRequest.GET("/api/configs/" + configId + "/revisions").bearerAuth(accessToken), List.class);
+        assertTrue(revisions.size() >= 2);
+        assertEquals(1, ((Number) revisions.get(revisions.size() - 1).get("revision")).intValue());
+
+        Map first = client.toBlocking().retrieve(
+                HttpRequest.GET("/api/configs/" + configId + "/revisions/1").bearerAuth(accessToken), Map.class);
+        assertEquals(V1, new String(Base64.getDecoder().decode((String) first.get("contentBase64")), StandardCharsets.UTF_8));
+
+        Map diff = client.toBlocking().retrieve(
+                HttpRequest.GET("/api/configs/" + configId + "/revisions/diff?from=1&to=2").bearerAuth(accessToken), Map.class);
+        List<Map> changes = (List<Map>) diff.get("changes");
+        assertEquals(2, changes.size());
+        assertEquals("/properties/0/default", changes.get(0).get("path"));
+        assertEquals("changed", changes.get(0).get("type"));
+        assertEquals("/extra", changes.get(1).get("path"));
+        assertEquals("added", changes.get(1).get("type"));
+
+        client.toBlocking().exchange(HttpRequest.POST("/api/configs/" + configId + "/revisions/1/rollback", "")
+                .bearerAuth(accessToken));
+        Map restored = client.toBlocking().retrieve(
+                HttpRequest.GET("/api/configs/" + configId).bearerAuth(accessToken), Map.class);
+        assertEquals(V1, new String(Base64.getDecoder().decode((String) restored.get("contentBase64")), StandardCharsets.UTF_8));
+
+        List<Map> after = client.toBlocking().retrieve(
+                HttpRequest.GET("/api/configs/" + configId + "/revisions").bearerAuth(accessToken), List.class);
+        assertEquals(revisions.size() + 1, after.size());
+    }
+}
@@ -0,0 +1,96 @@
+package com.ixlab;
+
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class SearchTest {
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    private String accessToken;
+    private Long configId;
+
+    @BeforeAll
+    void setUp() {
+        Map<String, String> credentials = new HashMap<>();
+        credentials.put("username", "searchuser");
+        credentials.put("password", "testpass123");
+        Map<?, ?> auth = client.toBlocking().retrieve(HttpRequest.POST("/api/auth/register", credentials)
+                .contentType(MediaType.APPLICATION_JSON_TYPE), Map.class);
+        accessToken = (String) auth.get("accessToken");
+
+        configId = create("Search Config", "{\"properties\":[{\"key\":\"db.url\",\"default\":\"jdbc:sqlserver://db01.corp.local:1433\"}]}");
+        create("Other Config", "{\"properties\":[{\"key\":\"db.user\",\"default\":\"admin\"}]}");
+    }
+
+    @Test
+    void findsConfigurationsByKeyValueAndToken() {
+        List<Map> byKey = search("key=DB.URL");
+        assertEquals(1, byKey.size());
+        assertEquals(configId.intValue(), ((Number) byKey.get(0).get("configurationId")).intValue());
+        assertEquals("/properties/0", byKey.get(0).get("path"));
+
+        assertEquals(2, search("key=db.*").size());
+        assertEquals(1, search("value=db01.corp.local").size());
+        assertEquals(1, search("key=db.*&value=adm*").size());
+        assertTrue(search("value=db02.corp.local").isEmpty());
+    }
+
+    @Test
+    void updatesAndDeletesKeepTheIndexCurrent() {
+        Long id = create("Changing Config", "{\"properties\":[{\"key\":\"mail.host\",\"default\":\"smtp-old.corp.local\"}]}");
+
+        Map<String, Object> update = new HashMap<>();
+        update.put("json", "{\"properties\":[{\"key\":\"mail.host\",\"default\":\"smtp-new.corp.local\"}]}");
+        client.toBlocking().exchange(HttpRequest.PUT("/api/configs/" + id, update)
+                .contentType(MediaType.APPLICATION_JSON_TYPE)
+                .bearerAuth(accessToken));
+        assertTrue(search("value=smtp-old.corp.local").isEmpty());
+        assertEquals(1, search("value=smtp-new.corp.local").size());
+
+        client.toBlocking().exchange(HttpRequest.DELETE("/api/configs/" + id).bearerAuth(accessToken));
+        assertTrue(search("key=mail.host").isEmpty());
+    }
+
+    @Test
+    void requiresAKeyOrValue() {
+        HttpClientResponseException e = assertThrows(HttpClientResponseException.class, () ->
+                client.toBlocking().exchange(HttpRequest.GET("/api/search").bearerAuth(accessToken)));
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatus());
+    }
+
+    private List<Map> search(String query) {
+        return client.toBlocking().retrieve(HttpRequest.GET("/api/search?" + query).bearerAuth(accessToken), List.class);
+    }
+
+    private Long create(String name, String json) {
+        Map<String, Object> configData = new HashMap<>();
+        configData.put("name", name);
+        configData.put("categoryName", "Search Category");
+        configData.put("json", json);
+        Map<?, ?> config = client.toBlocking().retrieve(HttpRequest.POST("/api/configs", configData)
+                .contentType(MediaType.APPLICATION_JSON_TYPE)
+                .bearerAuth(accessToken), Map.class);
+        return ((Number) config.get("id")).longValue();
+    }
+}
@@ -0,0 +1,85 @@
+package com.ixlab;
+
+import com.ixlab.service.StaticAssetCatalog;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest
+public class StaticAssetTest {
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Inject
+    StaticAssetCatalog assets;
+
+    @Test
+    void panelLinksContentHashedAssets() {
+        String url = assets.url("config.js");
+        assertTrue(url.matches("/static/v/config\\.[0-9a-f]{12}\\.js"), url);
+
+        String html = client.toBlocking().retrieve(HttpRequest.GET("/panel"), String.class);
+        assertTrue(html.contains("src=\"" + url + "\""));
+        assertTrue(html.contains("href=\"" + assets.url("config.css") + "\""));
+    }
+
+    @Test
+    void hashedAssetsAreImmutableAndGzipped() throws Exception {
+        String url = assets.url("config.js");
+        HttpResponse<byte[]> response = client.toBlocking().exchange(HttpRequest.GET(url), byte[].class);
+
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals("public, max-age=31536000, immutable", response.getHeaders().get(HttpHeaders.CACHE_CONTROL));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeaders().get(HttpHeaders.VARY));
+        StaticAssetCatalog.Asset asset = assets.find(url.substring(url.lastIndexOf('/') + 1));
+        assertArrayEquals(asset.getContent(), response.body());
+
+        assertNotNull(asset.getGzipped());
+        assertTrue(asset.getGzipped().length < asset.getContent().length / 2);
+        assertArrayEquals(asset.getContent(), gunzip(asset.getGzipped()));
+    }
+
+    @Test
+    void unknownHashIsNotFound() {
+        HttpClientResponseException e = assertThrows(HttpClientResponseException.class, () ->
+            client.toBlocking().exchange(HttpRequest.GET("/static/v/config.000000000000.js"), byte[].class));
+        assertEquals(HttpStatus.NOT_FOUND, e.getStatus());
+    }
+
+    @Test
+    void acceptEncodingNegotiation() {
+        assertTrue(StaticAssetCatalog.acceptsGzip("gzip, deflate, br"));
+        assertTrue(StaticAssetCatalog.acceptsGzip("br;q=1.0, *;q=0.5"));
+        assertFalse(StaticAssetCatalog.acceptsGzip("gzip;q=0, *"));
+        assertFalse(StaticAssetCatalog.acceptsGzip("deflate, br"));
+        assertFalse(StaticAssetCatalog.acceptsGzip(null));
+    }
+
+    private static byte[] gunzip(byte[] gzipped) throws Exception {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.ixlab;
+
+import com.ixlab.security.CachingTokenValidator;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class TokenCacheTest {
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Inject
+    CachingTokenValidator tokenValidator;
+
+    private String accessToken;
+
+    @BeforeAll
+    void setUp() {
+        Map<String, String> credentials = new HashMap<>();
+        credentials.put("username", "tokencacheuser");
+        credentials.put("password", "testpass123");
+        Map<?, ?> auth = client.toBlocking().retrieve(HttpRequest.POST("/api/auth/register", credentials)
+                .contentType(MediaType.APPLICATION_JSON_TYPE), Map.class);
+        accessToken = (String) auth.get("accessToken");
+    }
+
+    @Test
+    void repeatedTokensAreAuthenticatedFromTheCache() {
+        client.toBlocking().exchange(HttpRequest.GET("/api/categories").bearerAuth(accessToken), List.class);
+        long hits = tokenValidator.stats().hitCount();
+
+        assertEquals(200, client.toBlocking().exchange(
+                HttpRequest.GET("/api/categories").bearerAuth(accessToken), List.class).getStatus().getCode());
+        assertEquals(hits + 1, tokenValidator.stats().hitCount());
+    }
+
+    @Test
+    void tamperedTokensAreRejectedAndNotCached() {
+        String tampered = accessToken.substring(0, accessToken.length() - 2) + (accessToken.endsWith("AA") ? "BB" : "AA");
+        int size = tokenValidator.stats().size();
+
+        HttpClientResponseException e = assertThrows(HttpClientResponseException.class, () ->
+            client.toBlocking().exchange(HttpRequest.GET("/api/categories").bearerAuth(tampered), List.class));
+        assertEquals(401, e.getStatus().getCode());
+        assertEquals(size, tokenValidator.stats().size());
+    }
+}
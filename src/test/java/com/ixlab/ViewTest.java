@@ -0,0 +1,50 @@
+package com.ixlab;
+
+import com.ixlab.render.RenderedViewCache;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest
+public class ViewTest {
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Inject
+    RenderedViewCache views;
+
+    @Test
+    void pagesArePrerenderedAtStartup() {
+        assertTrue(views.size() >= 3);
+
+        HttpResponse<String> login = client.toBlocking().exchange(HttpRequest.GET("/login"), String.class);
+        assertTrue(login.getHeaders().get(HttpHeaders.CONTENT_TYPE).startsWith("text/html"));
+        assertTrue(login.body().contains("<title>Iniciar Sesión - BuildBag</title>"));
+
+        String register = client.toBlocking().retrieve(HttpRequest.GET("/register"), String.class);
+        assertTrue(register.contains("<title>Registrarse - BuildBag</title>"));
+        String panel = client.toBlocking().retrieve(HttpRequest.GET("/panel"), String.class);
+        assertTrue(panel.contains("<title>Panel de Configuración - BuildBag</title>"));
+    }
+
+    @Test
+    void otherLocalesAreRenderedOnceAndCached() {
+        HttpRequest<?> request = HttpRequest.GET("/login").header(HttpHeaders.ACCEPT_LANGUAGE, "pt-BR");
+        String first = client.toBlocking().retrieve(request, String.class);
+        int entries = views.size();
+
+        String second = client.toBlocking().retrieve(
+            HttpRequest.GET("/login").header(HttpHeaders.ACCEPT_LANGUAGE, "pt-BR"), String.class);
+        assertEquals(first, second);
+        assertEquals(entries, views.size());
+    }
+}
@@ -0,0 +1,95 @@
+package com.ixlab;
+
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class WorkspaceExportTest {
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    private String register(String username) {
+        Map<String, String> credentials = new HashMap<>();
+        credentials.put("username", username);
+        credentials.put("password", "testpass123");
+        Map<?, ?> auth = client.toBlocking().retrieve(HttpRequest.POST("/api/auth/register", credentials)
+                .contentType(MediaType.APPLICATION_JSON_TYPE), Map.class);
+        return (String) auth.get("accessToken");
+    }
+
+    @Test
+    void zipExportRestoresIntoAnotherWorkspace() throws IOException {
+        String source = register("exportsource");
+        Map<String, String> empty = new HashMap<>();
+        empty.put("name", "Empty Category");
+        client.toBlocking().exchange(HttpRequest.POST("/api/categories", empty)
+                .contentType(MediaType.APPLICATION_JSON_TYPE).bearerAuth(source));
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> configData = new HashMap<>();
+            configData.put("name", "Export " + i);
+            configData.put("categoryName", "Export Category");
+            configData.put("json", "{\"projectName\":\"Export " + i + "\"}");
+            client.toBlocking().exchange(HttpRequest.POST("/api/configs", configData)
+                    .contentType(MediaType.APPLICATION_JSON_TYPE).bearerAuth(source));
+        }
+
+        byte[] archive = client.toBlocking().retrieve(HttpRequest.GET("/api/export").bearerAuth(source), byte[].class);
+        List<String> entries = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive), StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.add(entry.getName());
+            }
+        }
+        assertEquals("categories.json", entries.get(0));
+        assertEquals(3, entries.stream().filter(e -> e.startsWith("configurations/")).count());
+
+        String target = register("exporttarget");
+        Map result = client.toBlocking().retrieve(HttpRequest.POST("/api/import", archive)
+                .contentType("application/zip").bearerAuth(target), Map.class);
+        assertEquals(3, ((Number) result.get("created")).intValue());
+
+        List<Map> categories = client.toBlocking().retrieve(HttpRequest.GET("/api/categories").bearerAuth(target), List.class);
+        assertEquals(2, categories.size());
+        List<Map> configs = client.toBlocking().retrieve(HttpRequest.GET("/api/configs").bearerAuth(target), List.class);
+        assertEquals(3, configs.size());
+    }
+
+    @Test
+    void ndjsonExportHasOneLinePerRecord() {
+        String token = register("exportndjson");
+        Map<String, Object> configData = new HashMap<>();
+        configData.put("name", "Nd Export");
+        configData.put("categoryName", "Nd Category");
+        configData.put("json", "{\"projectName\":\"Nd\"}");
+        client.toBlocking().exchange(HttpRequest.POST("/api/configs", configData)
+                .contentType(MediaType.APPLICATION_JSON_TYPE).bearerAuth(token));
+
+        String body = new String(client.toBlocking().retrieve(
+                HttpRequest.GET("/api/export?format=ndjson").bearerAuth(token), byte[].class), StandardCharsets.UTF_8);
+        String[] lines = body.trim().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"type\":\"category\""));
+        assertTrue(lines[1].contains("\"type\":\"configuration\""));
+    }
+}
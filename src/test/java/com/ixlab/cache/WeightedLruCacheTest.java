@@ -0,0 +1,37 @@
+package com.ixlab.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WeightedLruCacheTest {
+
+    @Test
+    void evictsLeastRecentlyUsedWhenOverWeight() {
+        WeightedLruCache<String, byte[]> cache = new WeightedLruCache<>(10, v -> v.length);
+        cache.put("a", new byte[4]);
+        cache.put("b", new byte[4]);
+        cache.get("a");
+        cache.put("c", new byte[4]);
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        assertEquals(8, cache.weight());
+        assertEquals(1, cache.evictionCount());
+        assertEquals(3, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    void staleValueCountsAsMissAndOversizedValueIsNotCached() {
+        WeightedLruCache<String, byte[]> cache = new WeightedLruCache<>(10, v -> v.length);
+        cache.put("a", new byte[2]);
+        assertNull(cache.get("a", v -> false));
+        assertEquals(1, cache.missCount());
+
+        cache.put("big", new byte[11]);
+        assertNull(cache.get("big"));
+        assertEquals(2, cache.weight());
+    }
+}
@@ -0,0 +1,45 @@
+package com.ixlab.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContentCodecsTest {
+
+    private static final byte[] JSON = ("{\"globalProperties\":[" +
+            "{\"category\":\"general\",\"properties\":[{\"key\":\"a\",\"default\":\"1\"}]}," +
+            "{\"category\":\"general\",\"properties\":[{\"key\":\"a\",\"default\":\"1\"}]}]}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void deflateRoundTripIsSmallerAndFramed() {
+        ContentCodecs codecs = new ContentCodecs("deflate", 6);
+        byte[] stored = codecs.encode(JSON);
+
+        assertEquals(DeflateCodec.ID, stored[0]);
+        assertTrue(stored.length < JSON.length);
+        assertTrue(codecs.isCurrent(stored));
+        assertArrayEquals(JSON, codecs.decode(stored));
+    }
+
+    @Test
+    void legacyUnframedContentIsReturnedAsIs() {
+        ContentCodecs codecs = new ContentCodecs("deflate", 6);
+
+        assertFalse(codecs.isFramed(JSON));
+        assertFalse(codecs.isCurrent(JSON));
+        assertArrayEquals(JSON, codecs.decode(JSON));
+    }
+
+    @Test
+    void readsContentWrittenWithAnotherCodec() {
+        byte[] stored = new ContentCodecs("none", 6).encode(JSON);
+        ContentCodecs codecs = new ContentCodecs("deflate", 6);
+
+        assertTrue(codecs.isFramed(stored));
+        assertFalse(codecs.isCurrent(stored));
+        assertArrayEquals(JSON, codecs.decode(stored));
+    }
+}
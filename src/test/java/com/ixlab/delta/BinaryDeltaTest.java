@@ -0,0 +1,81 @@
+package com.ixlab.delta;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryDeltaTest {
+
+    private static byte[] document(int properties, String changedValue) {
+        StringBuilder json = new StringBuilder("{\"projectName\":\"Delta\",\"globalProperties\":[");
+        for (int i = 0; i < properties; i++) {
+            if (i > 0) json.append(',');
+            String value = i == properties / 2 && changedValue != null ? changedValue : "value-" + i;
+            json.append("{\"key\":\"hrvertical.property.").append(i).append("\",\"default\":\"").append(value).append("\"}");
+        }
+        return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void smallEditProducesSmallDelta() {
+        byte[] base = document(500, null);
+        byte[] target = document(500, "changed");
+
+        byte[] delta = BinaryDelta.encode(base, target);
+
+        assertArrayEquals(target, BinaryDelta.apply(base, delta));
+        assertTrue(delta.length < 128, "delta was " + delta.length + " bytes for a " + target.length + " byte document");
+    }
+
+    @Test
+    void roundTripsInsertionsDeletionsAndUnrelatedContent() {
+        Random random = new Random(42);
+        byte[] base = new byte[4096];
+        random.nextBytes(base);
+
+        byte[] shifted = new byte[base.length + 100];
+        System.arraycopy(base, 0, shifted, 100, base.length);
+        assertArrayEquals(shifted, BinaryDelta.apply(base, BinaryDelta.encode(base, shifted)));
+
+        byte[] truncated = new byte[base.length - 1000];
+        System.arraycopy(base, 0, truncated, 0, 2000);
+        System.arraycopy(base, 3000, truncated, 2000, base.length - 3000);
+        assertArrayEquals(truncated, BinaryDelta.apply(base, BinaryDelta.encode(base, truncated)));
+
+        byte[] unrelated = new byte[2048];
+        random.nextBytes(unrelated);
+        assertArrayEquals(unrelated, BinaryDelta.apply(base, BinaryDelta.encode(base, unrelated)));
+    }
+
+    @Test
+    void handlesInputsShorterThanABlock() {
+        byte[] base = "{}".getBytes(StandardCharsets.UTF_8);
+        byte[] target = "{\"a\":1}".getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(target, BinaryDelta.apply(base, BinaryDelta.encode(base, target)));
+        assertArrayEquals(new byte[0], BinaryDelta.apply(target, BinaryDelta.encode(target, new byte[0])));
+    }
+
+    @Test
+    void encodesRepetitiveContentInLinearTime() {
+        byte[] base = new byte[1 << 20];
+        Arrays.fill(base, (byte) 'a');
+        byte[] target = base.clone();
+        target[target.length / 2] = 'b';
+
+        byte[] delta = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> BinaryDelta.encode(base, target));
+
+        assertArrayEquals(target, BinaryDelta.apply(base, delta));
+        assertTrue(delta.length < 64, "delta was " + delta.length + " bytes");
+    }
+
+    @Test
+    void rejectsDeltaForAnotherBase() {
+        byte[] delta = BinaryDelta.encode(document(10, null), document(10, "x"));
+        assertThrows(IllegalArgumentException.class, () -> BinaryDelta.apply(new byte[3], delta));
+    }
+}
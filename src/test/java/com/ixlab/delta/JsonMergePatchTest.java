@@ -0,0 +1,52 @@
+package com.ixlab.delta;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonMergePatchTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static JsonNode json(String text) throws Exception {
+        return MAPPER.readTree(text.replace('\'', '"'));
+    }
+
+    private static void assertPatch(String target, String patch, String expected) throws Exception {
+        assertEquals(json(expected), JsonMergePatch.apply(json(target), json(patch)));
+    }
+
+    @Test
+    void rfc7396Examples() throws Exception {
+        assertPatch("{'a':'b'}", "{'a':'c'}", "{'a':'c'}");
+        assertPatch("{'a':'b'}", "{'b':'c'}", "{'a':'b','b':'c'}");
+        assertPatch("{'a':'b'}", "{'a':null}", "{}");
+        assertPatch("{'a':'b','b':'c'}", "{'a':null}", "{'b':'c'}");
+        assertPatch("{'a':['b']}", "{'a':'c'}", "{'a':'c'}");
+        assertPatch("{'a':'c'}", "{'a':['b']}", "{'a':['b']}");
+        assertPatch("{'a':{'b':'c'}}", "{'a':{'b':'d','c':null}}", "{'a':{'b':'d'}}");
+        assertPatch("{'a':[{'b':'c'}]}", "{'a':[1]}", "{'a':[1]}");
+        assertPatch("['a','b']", "['c','d']", "['c','d']");
+        assertPatch("{'a':'b'}", "['c']", "['c']");
+        assertPatch("{'a':'foo'}", "null", "null");
+        assertPatch("{'a':'foo'}", "'bar'", "'bar'");
+        assertPatch("{'e':null}", "{'a':1}", "{'e':null,'a':1}");
+        assertPatch("[1,2]", "{'a':'b','c':null}", "{'a':'b'}");
+        assertPatch("{}", "{'a':{'bb':{'ccc':null}}}", "{'a':{'bb':{}}}");
+    }
+
+    @Test
+    void patchesOfDifferentMembersCommute() throws Exception {
+        String target = "{'globalProperties':{'db.url':'jdbc:h2:mem','db.user':'sa'},'projectName':'Merge'}";
+        JsonNode first = JsonMergePatch.apply(json(target), json("{'globalProperties':{'db.url':'jdbc:h2:file'}}"));
+        JsonNode both = JsonMergePatch.apply(first, json("{'globalProperties':{'db.user':null},'owner':'ops'}"));
+
+        JsonNode second = JsonMergePatch.apply(json(target), json("{'globalProperties':{'db.user':null},'owner':'ops'}"));
+        JsonNode reversed = JsonMergePatch.apply(second, json("{'globalProperties':{'db.url':'jdbc:h2:file'}}"));
+
+        assertEquals(json("{'globalProperties':{'db.url':'jdbc:h2:file'},'projectName':'Merge','owner':'ops'}"), both);
+        assertEquals(both, reversed);
+    }
+}
@@ -0,0 +1,64 @@
+package com.ixlab.delta;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PropertyMergePatchTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String TARGET = "{'projectName':'P','globalProperties':["
+            + "{'category':'Db','properties':[{'key':'db.url','default':'jdbc:h2:mem'},{'key':'db.pool','default':'5'}]},"
+            + "{'category':'Mail','properties':[{'key':'mail.host','default':'smtp'}]}]}";
+
+    private static JsonNode json(String text) throws Exception {
+        return MAPPER.readTree(text.replace('\'', '"'));
+    }
+
+    private static void assertPatch(String target, String patch, String expected) throws Exception {
+        assertEquals(json(expected), PropertyMergePatch.apply(json(target), json(patch)));
+    }
+
+    @Test
+    void propertiesAreAddressedByKey() throws Exception {
+        assertPatch(TARGET, "{'globalProperties':{'db.url':{'default':'jdbc:h2:file'},'db.pool':null,'mail.port':{'default':'25','category':'Mail'}}}",
+            "{'projectName':'P','globalProperties':["
+                + "{'category':'Db','properties':[{'key':'db.url','default':'jdbc:h2:file'}]},"
+                + "{'category':'Mail','properties':[{'key':'mail.host','default':'smtp'},{'key':'mail.port','default':'25'}]}]}");
+    }
+
+    @Test
+    void categoryMovesAPropertyAndNewPropertiesDefaultToTheFirstCategory() throws Exception {
+        assertPatch(TARGET, "{'globalProperties':{'mail.host':{'category':'Smtp'},'db.user':{'default':'sa'}}}",
+            "{'projectName':'P','globalProperties':["
+                + "{'category':'Db','properties':[{'key':'db.url','default':'jdbc:h2:mem'},{'key':'db.pool','default':'5'},{'key':'db.user','default':'sa'}]},"
+                + "{'category':'Mail','properties':[]},"
+                + "{'category':'Smtp','properties':[{'key':'mail.host','default':'smtp'}]}]}");
+    }
+
+    @Test
+    void arraysAndOtherMembersFollowRfc7396() throws Exception {
+        assertPatch(TARGET, "{'projectName':null,'globalProperties':[]}", "{'globalProperties':[]}");
+        assertPatch("{'a':'b'}", "{'globalProperties':{'x':{'default':'1'}}}", "{'a':'b','globalProperties':{'x':{'default':'1'}}}");
+    }
+
+    @Test
+    void patchesOfDifferentPropertiesCommute() throws Exception {
+        String first = "{'globalProperties':{'db.url':{'default':'jdbc:h2:file'}}}";
+        String second = "{'globalProperties':{'mail.host':{'default':'relay'}}}";
+        JsonNode both = PropertyMergePatch.apply(PropertyMergePatch.apply(json(TARGET), json(first)), json(second));
+        JsonNode reversed = PropertyMergePatch.apply(PropertyMergePatch.apply(json(TARGET), json(second)), json(first));
+        assertEquals(both, reversed);
+    }
+
+    @Test
+    void rejectsPatchesThatAreNotObjects() {
+        assertThrows(IllegalArgumentException.class, () ->
+            PropertyMergePatch.apply(json(TARGET), json("{'globalProperties':{'db.url':'jdbc:h2:file'}}")));
+        assertThrows(IllegalArgumentException.class, () ->
+            PropertyMergePatch.apply(json("{'globalProperties':[]}"), json("{'globalProperties':{'db.url':{'default':'x'}}}")));
+    }
+}
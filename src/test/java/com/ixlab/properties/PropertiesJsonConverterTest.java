@@ -0,0 +1,94 @@
+package com.ixlab.properties;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PropertiesJsonConverterTest {
+
+    private final PropertiesJsonConverter converter = new PropertiesJsonConverter(new ObjectMapper());
+
+    @Test
+    void readerHandlesContinuationsEscapesAndSeparators() throws IOException {
+        String file = "# comment\n"
+                + "! other comment\n"
+                + "a.b.first = one\n"
+                + "a.b.second:two\n"
+                + "a.b.third three\n"
+                + "a.b.multi = line one \\\n"
+                + "    line two\n"
+                + "a.b.unicode = M\\u00e9xico\n"
+                + "a.b.escaped\\=key = x\\\\\n";
+        Map<String, String> read = new LinkedHashMap<>();
+        PropertiesReader.read(new StringReader(file), read::put);
+
+        assertEquals("one", read.get("a.b.first"));
+        assertEquals("two", read.get("a.b.second"));
+        assertEquals("three", read.get("a.b.third"));
+        assertEquals("line one line two", read.get("a.b.multi"));
+        assertEquals("México", read.get("a.b.unicode"));
+        assertEquals("x\\", read.get("a.b.escaped=key"));
+        assertEquals(6, read.size());
+    }
+
+    @Test
+    void groupsByPrefixAndDetectsTypes() throws IOException {
+        String file = "portal.general.enabled=true\n"
+                + "portal.general.retries=5\n"
+                + "portal.general.flag=1\n"
+                + "portal.general.url=https://example.com\n"
+                + "portal.general.bannerText=<b>Hola</b>\n"
+                + "standalone=value\n";
+        JsonNode json = converter.convert(new StringReader(file), "mi-portal_web.properties", null);
+
+        assertEquals("Mi portal web", json.path("projectName").asText());
+        assertEquals(32, json.path("mexicoStates").size());
+        JsonNode globals = json.path("globalProperties");
+        assertEquals(2, globals.size());
+        JsonNode props = globals.get(0).path("properties");
+        assertEquals("boolean", props.get(0).path("type").asText());
+        assertEquals("string", props.get(0).path("booleanType").asText());
+        assertEquals("number", props.get(1).path("type").asText());
+        assertEquals("number", props.get(2).path("booleanType").asText());
+        assertEquals("url", props.get(3).path("type").asText());
+        assertTrue(props.get(3).path("checkService").asBoolean());
+        assertEquals("html", props.get(4).path("type").asText());
+        assertEquals("banner Text", props.get(4).path("label").asText());
+        assertEquals("General", globals.get(1).path("category").asText());
+    }
+
+    @Test
+    void domainPropertiesBecomeTemplatesWithPerDomainValues() throws IOException {
+        String file = "app.domain1.name=Uno\n"
+                + "app.domain1.port=8080\n"
+                + "app.domain2.name=Dos\n"
+                + "app.domain2.port=9090\n";
+        JsonNode json = converter.convert(new StringReader(file), "d.properties", null);
+
+        JsonNode domains = json.path("domainProperties");
+        assertEquals(1, domains.size());
+        assertEquals("app.Dominio", domains.get(0).path("category").asText());
+        JsonNode props = domains.get(0).path("properties");
+        assertEquals(2, props.size());
+        assertEquals("app.domain{N}.name", props.get(0).path("key").asText());
+
+        JsonNode values = json.path("_domainValues");
+        assertEquals(2, values.size());
+        assertEquals("Dos", values.get(1).path("properties").path("app.domain{N}.name").asText());
+        assertEquals("Propiedades Generales", json.path("globalProperties").get(0).path("category").asText());
+    }
+
+    @Test
+    void customDomainPattern() throws IOException {
+        JsonNode json = converter.convert(new StringReader("hr.site3.url=x\n"), "s.properties", "site{N}");
+        assertEquals("hr.site{N}.url", json.path("domainProperties").get(0).path("properties").get(0).path("key").asText());
+        assertEquals("site{N}", json.path("domainKeyPattern").asText());
+    }
+}
@@ -0,0 +1,136 @@
+package com.ixlab.render;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PropertiesTemplateCompilerTest {
+
+    private final PropertiesTemplateCompiler compiler = new PropertiesTemplateCompiler(new ObjectMapper());
+
+    @Test
+    void rendersGlobalRepeatableAndDomainProperties() {
+        String json = "{"
+                + "\"globalProperties\":[{\"category\":\"general\",\"properties\":["
+                + "{\"key\":\"app.name\",\"default\":\"demo\",\"description\":\"Nombre\"},"
+                + "{\"key\":\"app.enabled\",\"type\":\"boolean\",\"booleanType\":\"string\",\"default\":\"true\"},"
+                + "{\"key\":\"rows.total\",\"default\":\"2\"},"
+                + "{\"key\":\"rows.row[N]\",\"label\":\"Fila\",\"repeatBasedOn\":{\"key\":\"rows.total\"},\"default\":[\"a\",\"b\"]}"
+                + "]}],"
+                + "\"domainProperties\":[{\"category\":\"Dominio\",\"properties\":["
+                + "{\"key\":\"portal.domain{N}.id\",\"autoFillDomainId\":true},"
+                + "{\"key\":\"portal.domain{N}.url\",\"default\":\"http://localhost\"}"
+                + "]}],"
+                + "\"_domainValues\":[{\"id\":1,\"properties\":{\"portal.domain{N}.url\":\"https://one\"}},{\"id\":2,\"properties\":{}}]"
+                + "}";
+
+        String out = compiler.compile(json.getBytes(StandardCharsets.UTF_8)).render(LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+
+        assertTrue(out.contains("# Generado: 2/1/2024, 03:04:05\n"));
+        assertTrue(out.contains("# GENERAL\n"));
+        assertTrue(out.contains("# Nombre\napp.name=demo\n"));
+        assertTrue(out.contains("app.enabled=true\n"));
+        assertTrue(out.contains("# Fila 1\nrows.row1=a\n# Fila 2\nrows.row2=b\n"));
+        assertTrue(out.contains("# DOMINIO 1\n"));
+        assertTrue(out.contains("portal.domain1.id=1\nportal.domain1.url=https://one\n"));
+        assertTrue(out.contains("portal.domain2.id=2\nportal.domain2.url=http://localhost\n"));
+    }
+
+    @Test
+    void rendersDynamicLanguagesFromTheLanguageCount() {
+        String json = "{\"globalProperties\":[{\"category\":\"idiomas\",\"properties\":["
+                + "{\"key\":\"portal.languages.total\",\"default\":\"2\"},"
+                + "{\"key\":\"portal.languages\",\"type\":\"dynamicLanguages\",\"default\":[\"ca\",\"eu\",\"gl\"]}"
+                + "]}]}";
+
+        String out = render(json);
+
+        assertTrue(out.contains("# Código del idioma 1\nportal.languages.language1=ca\n"
+                + "# Código del idioma 2\nportal.languages.language2=eu\n"));
+        assertFalse(out.contains("portal.languages.language3"));
+    }
+
+    @Test
+    void rendersDefaultLanguagesWithoutALanguageCount() {
+        String json = "{\"globalProperties\":[{\"category\":\"idiomas\",\"properties\":["
+                + "{\"key\":\"portal.languages\",\"type\":\"dynamicLanguages\"}"
+                + "]}]}";
+
+        String out = render(json);
+
+        assertTrue(out.contains("portal.languages.language1=es\nportal.languages.language2=en\n"
+                + "# Código del idioma 3\nportal.languages.language3=fr\n"));
+        assertFalse(out.contains("portal.languages.language4"));
+    }
+
+    @Test
+    void rendersDynamicOptionsAsTheirSavedValue() {
+        String json = "{\"globalProperties\":[{\"category\":\"general\",\"properties\":["
+                + "{\"key\":\"app.modes\",\"default\":\"a,b,c\"},"
+                + "{\"key\":\"app.mode\",\"type\":\"select\",\"description\":\"Modo\","
+                + "\"dynamicOptionsFrom\":{\"key\":\"app.modes\",\"separator\":\",\"},\"default\":\"b\"}"
+                + "]}]}";
+
+        assertTrue(render(json).contains("# Modo\napp.mode=b\n"));
+    }
+
+    @Test
+    void fallsBackToTheDomainCountWithoutSavedDomains() {
+        String json = "{\"globalProperties\":[{\"category\":\"general\",\"properties\":["
+                + "{\"key\":\"hrvertical.portalfirma.dominios.totalconfigurados\",\"default\":\"3\"}"
+                + "]}],"
+                + "\"domainProperties\":[{\"category\":\"Dominio\",\"properties\":["
+                + "{\"key\":\"portal.domain{N}.id\",\"autoFillDomainId\":true}"
+                + "]}]}";
+
+        String out = render(json);
+
+        assertTrue(out.contains("portal.domain1.id=1\n"));
+        assertTrue(out.contains("portal.domain3.id=3\n"));
+        assertFalse(out.contains("# DOMINIO 4\n"));
+
+        String withoutCount = "{\"domainProperties\":[{\"category\":\"Dominio\",\"properties\":["
+                + "{\"key\":\"portal.domain{N}.id\",\"autoFillDomainId\":true}"
+                + "]}]}";
+        String fallback = render(withoutCount);
+        assertTrue(fallback.contains("portal.domain2.id=2\n"));
+        assertFalse(fallback.contains("# DOMINIO 3\n"));
+    }
+
+    @Test
+    void clampsCountsTakenFromStoredValues() {
+        String json = "{\"globalProperties\":[{\"category\":\"general\",\"properties\":["
+                + "{\"key\":\"hrvertical.portalfirma.dominios.totalconfigurados\",\"default\":\"2000000000\"},"
+                + "{\"key\":\"portal.languages.total\",\"default\":\"2000000000\"},"
+                + "{\"key\":\"portal.languages\",\"type\":\"dynamicLanguages\"},"
+                + "{\"key\":\"rows.total\",\"default\":\"2000000000\"},"
+                + "{\"key\":\"rows.row[N]\",\"label\":\"Fila\",\"repeatBasedOn\":{\"key\":\"rows.total\"}}"
+                + "]}],"
+                + "\"domainProperties\":[{\"category\":\"Dominio\",\"properties\":["
+                + "{\"key\":\"portal.domain{N}.id\",\"autoFillDomainId\":true}"
+                + "]}]}";
+
+        String out = render(json);
+
+        assertTrue(out.contains("portal.languages.language20="));
+        assertFalse(out.contains("portal.languages.language21="));
+        assertTrue(out.contains("rows.row20="));
+        assertFalse(out.contains("rows.row21="));
+        assertTrue(out.contains("# DOMINIO 20\n"));
+        assertFalse(out.contains("# DOMINIO 21\n"));
+    }
+
+    @Test
+    void rejectsInvalidJson() {
+        assertThrows(IllegalArgumentException.class,
+                () -> compiler.compile("not json".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private String render(String json) {
+        return compiler.compile(json.getBytes(StandardCharsets.UTF_8)).render(LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+    }
+}
@@ -0,0 +1,42 @@
+package com.ixlab.search;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PropertyTermExtractorTest {
+
+    @Test
+    void extractsPropertyDefinitionsAndDomainValues() throws Exception {
+        String json = "{"
+                + "\"globalProperties\":[{\"category\":\"general\",\"properties\":["
+                + "{\"key\":\"db.url\",\"default\":\"jdbc:sqlserver://DB01.corp.local:1433\"},"
+                + "{\"key\":\"langs\",\"default\":[\"es\",\"en\"]}"
+                + "]}],"
+                + "\"_domainValues\":[{\"id\":1,\"properties\":{\"portal.domain{N}.url\":\"https://one\",\"a/b\":true}}]"
+                + "}";
+
+        List<PropertyTerm> terms = PropertyTermExtractor.extract(new ObjectMapper().readTree(json));
+
+        assertEquals(4, terms.size());
+        assertEquals("/globalProperties/0/properties/0", terms.get(0).getPath());
+        assertEquals("db.url", terms.get(0).getKey());
+        assertEquals("jdbc:sqlserver://DB01.corp.local:1433", terms.get(0).getValue());
+        assertEquals("[\"es\",\"en\"]", terms.get(1).getValue());
+        assertEquals("/_domainValues/0/properties/portal.domain{N}.url", terms.get(2).getPath());
+        assertEquals("https://one", terms.get(2).getValue());
+        assertEquals("/_domainValues/0/properties/a~1b", terms.get(3).getPath());
+        assertEquals("true", terms.get(3).getValue());
+    }
+
+    @Test
+    void splitsValuesIntoHostAndIdentifierTokens() {
+        assertEquals(Arrays.asList("jdbc", "sqlserver", "db01.corp.local", "1433"),
+                Arrays.asList(PropertyTermExtractor.tokens("jdbc:sqlserver://DB01.corp.local:1433").toArray()));
+        assertTrue(PropertyTermExtractor.tokens("  ").isEmpty());
+    }
+}
@@ -0,0 +1,45 @@
+package com.ixlab.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AnonymousPathMatcherTest {
+
+    private final AnonymousPathMatcher matcher = AnonymousPathMatcher.compile(
+            Arrays.asList("/", "/login"),
+            Arrays.asList("/api/auth/", "/static/", "/swagger"),
+            Arrays.asList(".css", ".woff", ".woff2"));
+
+    @Test
+    void matchesExactPathsPrefixesAndSuffixes() {
+        assertTrue(matcher.matches("/"));
+        assertTrue(matcher.matches("/login"));
+        assertTrue(matcher.matches("/api/auth/login"));
+        assertTrue(matcher.matches("/static/"));
+        assertTrue(matcher.matches("/swagger-ui/index.html"));
+        assertTrue(matcher.matches("/fonts/icons.woff"));
+        assertTrue(matcher.matches("/fonts/icons.woff2"));
+        assertTrue(matcher.matches("/theme.css"));
+    }
+
+    @Test
+    void rejectsEverythingElse() {
+        assertFalse(matcher.matches(""));
+        assertFalse(matcher.matches("/login/extra"));
+        assertFalse(matcher.matches("/api/auth"));
+        assertFalse(matcher.matches("/api/configs"));
+        assertFalse(matcher.matches("/theme.cs"));
+        assertFalse(matcher.matches("/static"));
+    }
+
+    @Test
+    void emptyRulesDoNotOpenEveryPath() {
+        AnonymousPathMatcher empty = AnonymousPathMatcher.compile(
+                Collections.emptyList(), Collections.singletonList(""), Collections.singletonList(""));
+        assertFalse(empty.matches("/api/configs"));
+    }
+}
@@ -0,0 +1,32 @@
+package com.ixlab.service;
+
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtServiceTest {
+
+    @Test
+    void repeatedTokensAreServedFromTheCache() {
+        JwtService jwtService = new JwtService(10);
+        String token = jwtService.generateToken("alice");
+
+        assertEquals("alice", jwtService.validateAndGetSubject(token));
+        assertEquals(0, jwtService.stats().hitCount());
+        assertEquals("alice", jwtService.validateAndGetSubject(token));
+        assertEquals(1, jwtService.stats().hitCount());
+        assertEquals(1, jwtService.stats().size());
+    }
+
+    @Test
+    void tamperedTokensAreRejectedAndNotCached() {
+        JwtService jwtService = new JwtService(10);
+        String token = jwtService.generateToken("alice");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtService.validateAndGetSubject(tampered));
+        assertThrows(JwtException.class, () -> jwtService.validateAndGetSubject(tampered));
+        assertEquals(0, jwtService.stats().size());
+    }
+}
@@ -0,0 +1,18 @@
+package com.ixlab.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HashesTest {
+
+    @Test
+    void sha256IsLowercaseHex() {
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad",
+                Hashes.sha256("abc".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855",
+                Hashes.sha256(new byte[0]));
+    }
+}